@@ -32,6 +32,7 @@ import com.viaversion.viaversion.api.protocol.version.ProtocolVersion;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.platform.spigot.GeyserSpigotPlugin;
 import org.geysermc.geyser.session.GeyserSession;
@@ -73,6 +74,15 @@ public class GeyserSpigotLegacyNativeWorldManager extends GeyserSpigotNativeWorl
         return oldToNewBlockId.getOrDefault(nativeBlockId, nativeBlockId);
     }
 
+    @Override
+    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
+        int[] blocks = super.getBlocksAt(session, iter);
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = oldToNewBlockId.getOrDefault(blocks[i], blocks[i]);
+        }
+        return blocks;
+    }
+
     @Override
     public boolean isLegacy() {
         return true;
@@ -25,11 +25,10 @@
 
 package org.geysermc.geyser.platform.spigot.world.manager;
 
-import org.bukkit.Bukkit;
 import org.bukkit.World;
-import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.adapters.WorldAdapter;
 import org.geysermc.geyser.adapters.paper.PaperAdapters;
 import org.geysermc.geyser.adapters.spigot.SpigotAdapters;
@@ -50,11 +49,36 @@ public class GeyserSpigotNativeWorldManager extends GeyserSpigotWorldManager {
 
     @Override
     public int getBlockAt(GeyserSession session, int x, int y, int z) {
-        Player player = Bukkit.getPlayer(session.getPlayerEntity().getUsername());
-        if (player == null) {
+        World world = getWorld(session);
+        if (world == null || !world.isChunkLoaded(x >> 4, z >> 4)) {
             return Block.JAVA_AIR_ID;
         }
-        return adapter.getBlockAt(player.getWorld(), x, y, z);
+        return adapter.getBlockAt(world, x, y, z);
+    }
+
+    @Override
+    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
+        int[] blocks = new int[iter.getMaxIterations()];
+        World world = getWorld(session);
+        if (world == null) {
+            return blocks;
+        }
+        int lastChunkX = Integer.MIN_VALUE;
+        int lastChunkZ = Integer.MIN_VALUE;
+        boolean loaded = false;
+        for (; iter.hasNext(); iter.next()) {
+            int x = iter.getX();
+            int z = iter.getZ();
+            if ((x >> 4) != lastChunkX || (z >> 4) != lastChunkZ) {
+                lastChunkX = x >> 4;
+                lastChunkZ = z >> 4;
+                loaded = world.isChunkLoaded(lastChunkX, lastChunkZ);
+            }
+            if (loaded) {
+                blocks[iter.getIteration()] = adapter.getBlockAt(world, x, iter.getY(), z);
+            }
+        }
+        return blocks;
     }
 
     @Nullable
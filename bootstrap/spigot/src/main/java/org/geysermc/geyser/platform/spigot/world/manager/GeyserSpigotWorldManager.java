@@ -29,11 +29,14 @@ import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.DecoratedPot;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.geysermc.erosion.bukkit.BukkitUtils;
 import org.geysermc.erosion.bukkit.SchedulerUtils;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.level.GameRule;
 import org.geysermc.geyser.level.WorldManager;
@@ -42,8 +45,10 @@ import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.mcprotocollib.protocol.data.game.entity.player.GameMode;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -52,18 +57,20 @@ import java.util.function.Consumer;
 public class GeyserSpigotWorldManager extends WorldManager {
     private final Plugin plugin;
 
+    /**
+     * Block data is only ever looked up by its string form once; after that, its state ID is remembered.
+     * Bukkit block data is compared by the underlying block state, so there are as many entries as there are block states.
+     */
+    private final Map<BlockData, Integer> blockDataToId = new ConcurrentHashMap<>();
+
     public GeyserSpigotWorldManager(Plugin plugin) {
         this.plugin = plugin;
     }
 
     @Override
     public int getBlockAt(GeyserSession session, int x, int y, int z) {
-        Player bukkitPlayer;
-        if ((bukkitPlayer = Bukkit.getPlayer(session.getPlayerEntity().getUsername())) == null) {
-            return org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID;
-        }
-        World world = bukkitPlayer.getWorld();
-        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+        World world = getWorld(session);
+        if (world == null || !world.isChunkLoaded(x >> 4, z >> 4)) {
             // If the chunk isn't loaded, how could we even be here?
             return org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID;
         }
@@ -71,14 +78,64 @@ public class GeyserSpigotWorldManager extends WorldManager {
         return getBlockNetworkId(world.getBlockAt(x, y, z));
     }
 
+    @Override
+    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
+        // Air is 0, so there's no need to fill the array for unloaded chunks
+        int[] blocks = new int[iter.getMaxIterations()];
+        World world = getWorld(session);
+        if (world == null) {
+            return blocks;
+        }
+
+        // Positions are close together, so most of them will be in the same chunk as the previous one
+        int lastChunkX = Integer.MIN_VALUE;
+        int lastChunkZ = Integer.MIN_VALUE;
+        boolean loaded = false;
+        boolean owned = true;
+        for (; iter.hasNext(); iter.next()) {
+            int x = iter.getX();
+            int z = iter.getZ();
+            if ((x >> 4) != lastChunkX || (z >> 4) != lastChunkZ) {
+                lastChunkX = x >> 4;
+                lastChunkZ = z >> 4;
+                loaded = world.isChunkLoaded(lastChunkX, lastChunkZ);
+                owned = !SchedulerUtils.FOLIA || Bukkit.isOwnedByCurrentRegion(world, lastChunkX, lastChunkZ);
+            }
+            if (!loaded) {
+                continue;
+            }
+
+            Block block = world.getBlockAt(x, iter.getY(), z);
+            blocks[iter.getIteration()] = owned ? getBlockNetworkId(block.getBlockData()) : getBlockNetworkId(block);
+        }
+        return blocks;
+    }
+
     public int getBlockNetworkId(Block block) {
         if (SchedulerUtils.FOLIA && !Bukkit.isOwnedByCurrentRegion(block)) {
             // Terrible behavior, but this is basically what's always been happening behind the scenes anyway.
-            CompletableFuture<String> blockData = new CompletableFuture<>();
-            Bukkit.getRegionScheduler().execute(this.plugin, block.getLocation(), () -> blockData.complete(block.getBlockData().getAsString()));
-            return BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.getOrDefault(blockData.join(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID);
+            CompletableFuture<BlockData> blockData = new CompletableFuture<>();
+            Bukkit.getRegionScheduler().execute(this.plugin, block.getLocation(), () -> blockData.complete(block.getBlockData()));
+            return getBlockNetworkId(blockData.join());
         }
-        return BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.getOrDefault(block.getBlockData().getAsString(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID); // TODO could just make this a BlockState lookup?
+        return getBlockNetworkId(block.getBlockData());
+    }
+
+    private int getBlockNetworkId(BlockData blockData) {
+        Integer id = blockDataToId.get(blockData);
+        if (id == null) {
+            id = BlockRegistries.JAVA_BLOCK_STATE_IDENTIFIER_TO_ID.getOrDefault(blockData.getAsString(), org.geysermc.geyser.level.block.type.Block.JAVA_AIR_ID);
+            blockDataToId.put(blockData, id);
+        }
+        return id;
+    }
+
+    /**
+     * @return the world the player of this session is in, or null if they are not online on this server
+     */
+    protected @Nullable World getWorld(GeyserSession session) {
+        Player bukkitPlayer = Bukkit.getPlayer(session.getPlayerEntity().uuid());
+        return bukkitPlayer == null ? null : bukkitPlayer.getWorld();
     }
 
     @Override
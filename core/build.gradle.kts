@@ -13,6 +13,8 @@ plugins {
     id("io.freefair.lombok")
     // Allows fabric/neoforge runServer gradle tasks to work correctly
     id("dev.architectury.loom-companion")
+    // Microbenchmarks in src/jmh; run with ./gradlew :core:jmh
+    alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.util.ChunkUtils;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting a Java chunk section from YZX to XZY order one entry at a time, as chunk translation used to,
+ * against {@link BitArrayVersion#createArray(BitStorage, BitSet, int[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SectionTranscoderBenchmark {
+
+    @Param({"4", "5", "8"})
+    public int paletteBits;
+
+    @Param({"false", "true"})
+    public boolean waterlogged;
+
+    private BitStorage javaData;
+    private BitArrayVersion version;
+    private BitSet waterloggedPaletteIds;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        int paletteSize = 1 << paletteBits;
+        javaData = new BitStorage(paletteBits, BlockStorage.SIZE);
+        for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+            javaData.set(yzx, random.nextInt(paletteSize));
+        }
+        version = BitArrayVersion.forBitsCeil(Integer.SIZE - Integer.numberOfLeadingZeros(paletteSize));
+        waterloggedPaletteIds = new BitSet();
+        if (waterlogged) {
+            waterloggedPaletteIds.set(1);
+        }
+    }
+
+    @Benchmark
+    public void perEntry(Blackhole blackhole) {
+        BitArray bedrockData = version.createArray(BlockStorage.SIZE);
+        blackhole.consume(bedrockData);
+        if (waterloggedPaletteIds.isEmpty()) {
+            for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                bedrockData.set(ChunkUtils.indexYZXtoXZY(yzx), javaData.get(yzx));
+            }
+            return;
+        }
+
+        int[] layer1Data = new int[BlockStorage.SIZE >> 5];
+        for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+            int paletteId = javaData.get(yzx);
+            int xzy = ChunkUtils.indexYZXtoXZY(yzx);
+            bedrockData.set(xzy, paletteId);
+
+            if (waterloggedPaletteIds.get(paletteId)) {
+                layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
+            }
+        }
+        blackhole.consume(layer1Data);
+    }
+
+    @Benchmark
+    public void bulk(Blackhole blackhole) {
+        if (waterloggedPaletteIds.isEmpty()) {
+            blackhole.consume(version.createArray(javaData, null, null));
+            return;
+        }
+        int[] layer1Data = new int[BlockStorage.SIZE >> 5];
+        blackhole.consume(version.createArray(javaData, waterloggedPaletteIds, layer1Data));
+        blackhole.consume(layer1Data);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting and scaling skins one pixel at a time with {@link BufferedImage#getRGB(int, int)} and
+ * {@link Graphics2D}, as skin translation used to, against the array based methods in {@link ImageUtils}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageUtilsBenchmark {
+
+    /**
+     * Standard skins, and HD skins which are scaled down to 64x64 or 128x128
+     */
+    @Param({"64", "128", "512"})
+    public int size;
+
+    private BufferedImage image;
+    private byte[] rgba;
+    private int[] scaled;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        rgba = ImageUtils.toRgba(image);
+        scaled = new int[64 * 64];
+    }
+
+    @Benchmark
+    public byte[] toRgbaPerPixel() {
+        byte[] data = new byte[size * size * 4];
+        int offset = 0;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int rgba = image.getRGB(x, y);
+                data[offset++] = (byte) ((rgba >> 16) & 0xFF);
+                data[offset++] = (byte) ((rgba >> 8) & 0xFF);
+                data[offset++] = (byte) (rgba & 0xFF);
+                data[offset++] = (byte) ((rgba >> 24) & 0xFF);
+            }
+        }
+        return data;
+    }
+
+    @Benchmark
+    public byte[] toRgbaBulk() {
+        return ImageUtils.toRgba(image);
+    }
+
+    @Benchmark
+    public BufferedImage fromRgbaPerPixel() {
+        BufferedImage result = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int offset = (y * size + x) * 4;
+                result.setRGB(x, y, (rgba[offset + 3] & 0xFF) << 24 | (rgba[offset] & 0xFF) << 16
+                        | (rgba[offset + 1] & 0xFF) << 8 | rgba[offset + 2] & 0xFF);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public BufferedImage fromRgbaBulk() {
+        return ImageUtils.fromRgba(rgba, size, size);
+    }
+
+    @Benchmark
+    public void scaleGraphics(Blackhole blackhole) {
+        BufferedImage result = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = result.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, 64, 64, null);
+        graphics.dispose();
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void scaleBulk(Blackhole blackhole) {
+        blackhole.consume(ImageUtils.scaleBilinear(ImageUtils.toArgb(image), size, size, 64, 64, scaled));
+    }
+}
@@ -81,14 +81,18 @@ import org.geysermc.geyser.extension.GeyserExtensionManager;
 import org.geysermc.geyser.impl.MinecraftVersionImpl;
 import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.WorldManager;
+import org.geysermc.geyser.level.chunk.ChunkEncodingPool;
+import org.geysermc.geyser.level.chunk.ChunkSectionCache;
+import org.geysermc.geyser.metrics.MetricsServer;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.network.LoginPacketCache;
 import org.geysermc.geyser.network.netty.GeyserServer;
+import org.geysermc.geyser.pack.ResourcePackDownloadLimiter;
 import org.geysermc.geyser.ping.GeyserLegacyPingPassthrough;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.loader.ResourcePackLoader;
 import org.geysermc.geyser.registry.provider.ProviderSupplier;
-import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.PendingMicrosoftAuthentication;
 import org.geysermc.geyser.session.SessionDisconnectListener;
@@ -167,6 +171,9 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
     private volatile boolean shuttingDown = false;
 
     private ScheduledExecutorService scheduledThread;
+    private @Nullable ChunkEncodingPool chunkEncodingPool;
+    private @Nullable ChunkSectionCache chunkSectionCache;
+    private ResourcePackDownloadLimiter resourcePackDownloadLimiter;
 
     private GeyserServer geyserServer;
     private final GeyserBootstrap bootstrap;
@@ -175,6 +182,7 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
     private final GeyserExtensionManager extensionManager;
 
     private MetricsBase metrics;
+    private @Nullable MetricsServer metricsServer;
 
     private PendingMicrosoftAuthentication pendingMicrosoftAuthentication;
     @Getter(AccessLevel.NONE)
@@ -302,6 +310,12 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
     private void startInstance() {
         this.scheduledThread = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory("Geyser Scheduled Thread"));
 
+        int chunkEncodingThreads = config().advanced().chunkEncodingThreads();
+        this.chunkEncodingPool = chunkEncodingThreads > 0 ? new ChunkEncodingPool(chunkEncodingThreads) : null;
+        int chunkSectionCacheSize = config().advanced().chunkSectionCacheSize();
+        this.chunkSectionCache = chunkSectionCacheSize > 0 ? new ChunkSectionCache(chunkSectionCacheSize) : null;
+        this.resourcePackDownloadLimiter = new ResourcePackDownloadLimiter(config().advanced().maxConcurrentResourcePackDownloads());
+
         if (isReloading) {
             // If we're reloading, the default locale in the config might have changed.
             GeyserLocale.finalizeDefaultLocale(this);
@@ -312,8 +326,6 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         GeyserLogger logger = bootstrap.getGeyserLogger();
         GeyserConfig config = bootstrap.config();
 
-        ScoreboardUpdater.init();
-
         SkinProvider.registerCacheImageTask(this);
 
         Registries.RESOURCE_PACKS.load();
@@ -506,6 +518,7 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         }
 
         setupMetrics(config, logger);
+        metricsServer = MetricsServer.start(this);
 
         loadSavedAuthChains(config, logger);
 
@@ -588,16 +601,20 @@ public class GeyserImpl implements GeyserApi, EventRegistrar {
         }
 
         runIfNonNull(scheduledThread, ScheduledExecutorService::shutdown);
+        runIfNonNull(chunkEncodingPool, ChunkEncodingPool::shutdown);
+        runIfNonNull(chunkSectionCache, ChunkSectionCache::clear);
         runIfNonNull(geyserServer, GeyserServer::shutdown);
         runIfNonNull(skinUploader, FloodgateSkinUploader::close);
         runIfNonNull(newsHandler, NewsHandler::shutdown);
         runIfNonNull(erosionUnixListener, UnixSocketClientListener::close);
+        runIfNonNull(metricsServer, MetricsServer::stop);
 
         if (bootstrap.getGeyserPingPassthrough() instanceof GeyserLegacyPingPassthrough legacyPingPassthrough) {
             legacyPingPassthrough.interrupt();
         }
 
         ResourcePackLoader.clear();
+        LoginPacketCache.clear();
         CodeOfConductManager.trySave();
 
         this.setEnabled(false);
@@ -373,6 +373,20 @@ public interface GeyserConfig {
         @NumericRange(from = -1, to = 9)
         int compressionLevel();
 
+        @Comment("""
+                Whether to use the client-side chunk cache for Bedrock clients that support it.
+                Chunk sections and biomes the client has already stored will not be sent again, reducing bandwidth
+                when players revisit terrain or switch between servers with the same worlds.""")
+        @DefaultBoolean
+        boolean useClientBlobCache();
+
+        @Comment("""
+                Whether Bedrock clients should request chunk sections individually instead of receiving whole chunk columns.
+                Sections are only sent once the client needs them, and sections consisting of only air are skipped.
+                When enabled, the client blob cache is not used.""")
+        @DefaultBoolean
+        boolean useSubChunkRequests();
+
         @Comment("""
                 Whether to expect HAPROXY protocol for connecting Bedrock clients.
                 This is useful only when you are running a UDP reverse proxy in front of your Geyser instance.
@@ -473,6 +487,45 @@ public interface GeyserConfig {
         @DefaultBoolean(true)
         boolean addTeamSuggestions();
 
+        @Comment("""
+            The amount of threads used to convert Java chunks into Bedrock chunks.
+            Chunks are still sent in the order they are received.
+            A value of 0 converts chunks on each player's own thread. (Default: 0)""")
+        @DefaultNumeric(0)
+        int chunkEncodingThreads();
+
+        @Comment("""
+            The amount of memory, in megabytes, used to share translated chunk sections between players.
+            Helps servers where many players see the same chunks, such as lobbies. A value of 0 is disabled. (Default: 0)""")
+        @DefaultNumeric(0)
+        int chunkSectionCacheSize();
+
+        @Comment("""
+            The amount of Bedrock players that can download resource packs from this server at the same time.
+            Other players wait in line until a download finishes. A value of 0 is unlimited. (Default: 0)""")
+        @DefaultNumeric(0)
+        int maxConcurrentResourcePackDownloads();
+
+        @Comment("""
+            Entities further away from the player than these distances, in blocks, are updated less often.
+            Past each distance, their movement is sent half as often again, and entities behind the player count as one step further away.
+            An empty list updates every entity every tick. (Default: [32, 64])""")
+        default List<Integer> entityUpdateDistances() {
+            return List.of(32, 64);
+        }
+
+        @Comment("""
+            The port of a local HTTP endpoint that serves Geyser's internal metrics at /metrics, in the Prometheus text format.
+            A value of 0 is disabled. (Default: 0)""")
+        @DefaultNumeric(0)
+        int metricsPort();
+
+        @Comment("""
+            The IP address the metrics endpoint listens on.
+            Only change this if the port is not reachable from the internet.""")
+        @DefaultString("127.0.0.1")
+        String metricsAddress();
+
         @Comment("""
             A list of remote resource pack urls to send to the Bedrock client for downloading.
             The Bedrock client is very picky about how these are delivered - please see our wiki page for further info: https://geysermc.org/wiki/geyser/packs/
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.entity;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import org.geysermc.geyser.entity.type.Entity;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects relative movement and metadata changes of entities during a session tick, so each entity gets at most one
+ * movement packet and one metadata packet per tick, no matter how many Java packets it received. Movement of distant
+ * entities is held for longer, as decided by the {@link EntityUpdateScheduler}.
+ * Packets that are sent for an entity right away must call {@link #flush(Entity)} first, so the client sees the
+ * entity's updates in the order the server sent them.
+ * Only used from the session's event loop.
+ */
+public final class EntityUpdateQueue {
+    private static final LongAdder MOVEMENT_UPDATES = new LongAdder();
+    private static final LongAdder MOVEMENT_PACKETS = new LongAdder();
+    private static final LongAdder METADATA_UPDATES = new LongAdder();
+    private static final LongAdder METADATA_PACKETS = new LongAdder();
+
+    private final EntityUpdateScheduler scheduler;
+    private final ReferenceLinkedOpenHashSet<Entity> movement = new ReferenceLinkedOpenHashSet<>();
+    private final ReferenceLinkedOpenHashSet<Entity> metadata = new ReferenceLinkedOpenHashSet<>();
+
+    public EntityUpdateQueue(EntityUpdateScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Called by {@link Entity} when it has movement to send at the end of the tick.
+     */
+    public void queueMovement(Entity entity) {
+        MOVEMENT_UPDATES.increment();
+        movement.add(entity);
+    }
+
+    /**
+     * Sends the entity's dirty metadata at the end of the tick, instead of right away.
+     */
+    public void queueMetadata(Entity entity) {
+        METADATA_UPDATES.increment();
+        metadata.add(entity);
+    }
+
+    /**
+     * Sends everything that was queued during this tick.
+     */
+    public void flush() {
+        if (!movement.isEmpty()) {
+            Iterator<Entity> iterator = movement.iterator();
+            while (iterator.hasNext()) {
+                Entity entity = iterator.next();
+                if (entity.isValid() && !scheduler.isDue(entity)) {
+                    // Far away; stays queued and is merged with whatever movement comes next
+                    continue;
+                }
+                iterator.remove();
+                if (entity.sendQueuedMovement()) {
+                    MOVEMENT_PACKETS.increment();
+                }
+            }
+        }
+
+        if (!metadata.isEmpty()) {
+            for (Entity entity : metadata) {
+                if (entity.isValid() && entity.hasDirtyMetadata()) {
+                    METADATA_PACKETS.increment();
+                }
+                entity.updateBedrockMetadata();
+            }
+            metadata.clear();
+        }
+    }
+
+    /**
+     * Sends everything queued for one entity right away, regardless of its distance.
+     */
+    public void flush(Entity entity) {
+        if (movement.remove(entity) && entity.sendQueuedMovement()) {
+            MOVEMENT_PACKETS.increment();
+        }
+        if (metadata.remove(entity)) {
+            if (entity.isValid() && entity.hasDirtyMetadata()) {
+                METADATA_PACKETS.increment();
+            }
+            entity.updateBedrockMetadata();
+        }
+    }
+
+    /**
+     * @return how many relative movements have been queued. Divided by {@link #movementPackets()}, this is how many
+     * Java movement packets were merged into each Bedrock one.
+     */
+    public static long movementUpdates() {
+        return MOVEMENT_UPDATES.sum();
+    }
+
+    public static long movementPackets() {
+        return MOVEMENT_PACKETS.sum();
+    }
+
+    public static long metadataUpdates() {
+        return METADATA_UPDATES.sum();
+    }
+
+    public static long metadataPackets() {
+        return METADATA_PACKETS.sum();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.entity;
+
+import org.cloudburstmc.math.vector.Vector3f;
+import org.geysermc.geyser.entity.type.Entity;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides how often an entity's movement is sent to the client, based on how far away it is from the player and whether
+ * it is behind them. Nearby entities are updated every tick; past each configured distance, the rate halves.
+ * Only used from the session's event loop.
+ */
+public final class EntityUpdateScheduler {
+    private static final LongAdder DEFERRED_UPDATES = new LongAdder();
+
+    private final GeyserSession session;
+    private final double[] distancesSquared;
+
+    private int cachedTick = -1;
+    private double playerX;
+    private double playerY;
+    private double playerZ;
+    private double lookX;
+    private double lookZ;
+
+    public EntityUpdateScheduler(GeyserSession session) {
+        this.session = session;
+        List<Integer> distances = session.getGeyser().config().advanced().entityUpdateDistances();
+        this.distancesSquared = distances.stream()
+                .filter(distance -> distance > 0)
+                .sorted()
+                .mapToDouble(distance -> (double) distance * distance)
+                .toArray();
+    }
+
+    /**
+     * @return true if the entity should be updated this tick. If not, the update should be merged into a later one.
+     */
+    public boolean isDue(Entity entity) {
+        int interval = updateInterval(entity);
+        if (interval == 1 || ((session.getTicks() + (int) entity.geyserId()) & (interval - 1)) == 0) {
+            return true;
+        }
+        DEFERRED_UPDATES.increment();
+        return false;
+    }
+
+    /**
+     * @return how many ticks apart this entity should be updated, which is always a power of two
+     */
+    public int updateInterval(Entity entity) {
+        if (distancesSquared.length == 0) {
+            return 1;
+        }
+        SessionPlayerEntity player = session.getPlayerEntity();
+        if (entity == player || entity == player.getVehicle() || entity.getVehicle() == player) {
+            return 1;
+        }
+
+        updatePlayerView(player);
+        Vector3f position = entity.position();
+        double x = position.getX() - playerX;
+        double y = position.getY() - playerY;
+        double z = position.getZ() - playerZ;
+        double distanceSquared = x * x + y * y + z * z;
+
+        int tier = 0;
+        while (tier < distancesSquared.length && distanceSquared >= distancesSquared[tier]) {
+            tier++;
+        }
+        // The client's field of view is always less than 180 degrees, so anything behind the player can't be seen.
+        // Nearby entities keep their full rate though, as they can still be seen in third person.
+        if (tier > 0 && x * lookX + z * lookZ < 0) {
+            tier++;
+        }
+        return 1 << tier;
+    }
+
+    private void updatePlayerView(SessionPlayerEntity player) {
+        int tick = session.getTicks();
+        if (tick == cachedTick) {
+            return;
+        }
+        cachedTick = tick;
+
+        Vector3f position = player.position();
+        playerX = position.getX();
+        playerY = position.getY();
+        playerZ = position.getZ();
+        double yaw = Math.toRadians(player.getYaw());
+        lookX = -Math.sin(yaw);
+        lookZ = Math.cos(yaw);
+    }
+
+    /**
+     * @return how many times an entity update was put off until a later tick
+     */
+    public static long deferredUpdates() {
+        return DEFERRED_UPDATES.sum();
+    }
+}
@@ -48,6 +48,7 @@ import org.geysermc.geyser.api.entity.property.BatchPropertyUpdater;
 import org.geysermc.geyser.api.entity.property.GeyserEntityProperty;
 import org.geysermc.geyser.api.entity.type.GeyserEntity;
 import org.geysermc.geyser.entity.EntityDefinition;
+import org.geysermc.geyser.entity.EntityUpdateQueue;
 import org.geysermc.geyser.entity.GeyserDirtyMetadata;
 import org.geysermc.geyser.entity.properties.GeyserEntityProperties;
 import org.geysermc.geyser.entity.properties.GeyserEntityPropertyManager;
@@ -87,6 +88,15 @@ import java.util.function.Consumer;
 public class Entity implements GeyserEntity {
     private static final boolean PRINT_ENTITY_SPAWN_DEBUG = Boolean.parseBoolean(System.getProperty("Geyser.PrintEntitySpawnDebug", "false"));
 
+    protected static final int MOVEMENT_QUEUED = 1;
+    protected static final int MOVED_X = 1 << 1;
+    protected static final int MOVED_Y = 1 << 2;
+    protected static final int MOVED_Z = 1 << 3;
+    protected static final int MOVED_PITCH = 1 << 4;
+    protected static final int MOVED_YAW = 1 << 5;
+    protected static final int MOVED_HEAD_YAW = 1 << 6;
+    protected static final int MOVED_POSITION = MOVED_X | MOVED_Y | MOVED_Z;
+
     protected final GeyserSession session;
 
     protected int entityId;
@@ -159,6 +169,14 @@ public class Entity implements GeyserEntity {
     @Setter(AccessLevel.PROTECTED) // For players
     private boolean flagsDirty = false;
 
+    /**
+     * What changed in relative movement since the last movement packet, as {@code MOVED_} bits. Relative movement is
+     * queued and sent once at the end of the tick by the session's {@link EntityUpdateQueue}.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int queuedMovement;
+
     protected final GeyserEntityPropertyManager propertyManager;
 
     public Entity(EntitySpawnContext context) {
@@ -253,6 +271,9 @@ public class Entity implements GeyserEntity {
             passenger.updateBedrockMetadata();
         }
 
+        // Movement is pointless now, but metadata may still matter for how the entity is removed
+        clearQueuedMovement();
+        flushQueuedUpdates();
         RemoveEntityPacket removeEntityPacket = new RemoveEntityPacket();
         removeEntityPacket.setUniqueEntityId(geyserId);
         session.sendUpstreamPacket(removeEntityPacket);
@@ -292,37 +313,112 @@ public class Entity implements GeyserEntity {
         }
 
         if (isValid()) {
-            MoveEntityDeltaPacket moveEntityPacket = new MoveEntityDeltaPacket();
-            moveEntityPacket.setRuntimeEntityId(geyserId);
+            int changes = MOVEMENT_QUEUED;
             if (relX != 0.0) {
-                moveEntityPacket.setX(bedrockPosition().getX());
-                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_X);
+                changes |= MOVED_X;
             }
             if (relY != 0.0) {
-                moveEntityPacket.setY(bedrockPosition().getY());
-                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_Y);
+                changes |= MOVED_Y;
             }
             if (relZ != 0.0) {
-                moveEntityPacket.setZ(bedrockPosition().getZ());
-                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_Z);
+                changes |= MOVED_Z;
             }
             if (dirtyPitch) {
-                moveEntityPacket.setPitch(pitch);
-                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_PITCH);
+                changes |= MOVED_PITCH;
             }
             if (dirtyYaw) {
-                moveEntityPacket.setYaw(yaw);
-                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_YAW);
+                changes |= MOVED_YAW;
             }
             if (dirtyHeadYaw) {
-                moveEntityPacket.setHeadYaw(headYaw);
-                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_HEAD_YAW);
+                changes |= MOVED_HEAD_YAW;
+            }
+            queueMovement(changes);
+        }
+    }
+
+    /**
+     * Marks movement to be sent at the end of the tick, merged with any other movement of this entity in the same tick.
+     *
+     * @param changes the {@code MOVED_} bits of what changed, or just {@link #MOVEMENT_QUEUED}
+     */
+    protected final void queueMovement(int changes) {
+        queuedMovement |= changes;
+        session.getEntityCache().getUpdateQueue().queueMovement(this);
+    }
+
+    /**
+     * Sends this entity's queued movement and metadata now, before a packet that must not overtake them.
+     */
+    public final void flushQueuedUpdates() {
+        session.getEntityCache().getUpdateQueue().flush(this);
+    }
+
+    /**
+     * Drops queued movement, for example because a packet with the entity's full position was just sent.
+     */
+    protected final void clearQueuedMovement() {
+        queuedMovement = 0;
+    }
+
+    /**
+     * @return the {@code MOVED_} bits of movement that is waiting to be sent
+     */
+    protected final int queuedMovement() {
+        return queuedMovement;
+    }
+
+    /**
+     * Sends the movement queued during this tick, if there is any.
+     *
+     * @return true if a packet was sent
+     */
+    public final boolean sendQueuedMovement() {
+        int changes = queuedMovement;
+        queuedMovement = 0;
+        if (changes == 0 || !isValid()) {
+            return false;
+        }
+        sendMovement(changes);
+        return true;
+    }
+
+    /**
+     * Sends the current position and rotation of the entity, for the parts that changed.
+     */
+    protected void sendMovement(int changes) {
+        MoveEntityDeltaPacket moveEntityPacket = new MoveEntityDeltaPacket();
+        moveEntityPacket.setRuntimeEntityId(geyserId);
+        if ((changes & MOVED_POSITION) != 0) {
+            Vector3f bedrockPosition = bedrockPosition();
+            if ((changes & MOVED_X) != 0) {
+                moveEntityPacket.setX(bedrockPosition.getX());
+                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_X);
             }
-            if (isOnGround) {
-                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.ON_GROUND);
+            if ((changes & MOVED_Y) != 0) {
+                moveEntityPacket.setY(bedrockPosition.getY());
+                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_Y);
             }
-            session.sendUpstreamPacket(moveEntityPacket);
+            if ((changes & MOVED_Z) != 0) {
+                moveEntityPacket.setZ(bedrockPosition.getZ());
+                moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_Z);
+            }
+        }
+        if ((changes & MOVED_PITCH) != 0) {
+            moveEntityPacket.setPitch(pitch);
+            moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_PITCH);
+        }
+        if ((changes & MOVED_YAW) != 0) {
+            moveEntityPacket.setYaw(yaw);
+            moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_YAW);
+        }
+        if ((changes & MOVED_HEAD_YAW) != 0) {
+            moveEntityPacket.setHeadYaw(headYaw);
+            moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.HAS_HEAD_YAW);
         }
+        if (onGround) {
+            moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.ON_GROUND);
+        }
+        session.sendUpstreamPacket(moveEntityPacket);
     }
 
     public void moveAbsolute(Vector3f position, float yaw, float pitch, boolean isOnGround, boolean teleported) {
@@ -342,6 +438,10 @@ public class Entity implements GeyserEntity {
         setOnGround(isOnGround);
 
         if (isValid()) {
+            // This packet has everything that was queued
+            clearQueuedMovement();
+            flushQueuedUpdates();
+
             MoveEntityAbsolutePacket moveEntityPacket = new MoveEntityAbsolutePacket();
             moveEntityPacket.setRuntimeEntityId(geyserId);
             moveEntityPacket.setPosition(bedrockPosition());
@@ -416,6 +516,13 @@ public class Entity implements GeyserEntity {
         this.flags.put(flag, value);
     }
 
+    /**
+     * @return true if there is metadata or flags that have not been sent to the client yet
+     */
+    public boolean hasDirtyMetadata() {
+        return dirtyMetadata.hasEntries() || flagsDirty;
+    }
+
     /**
      * Sends the Bedrock metadata to the client
      */
@@ -161,6 +161,8 @@ public class ItemFrameEntity extends HangingEntity {
         updateBlockPacket.getFlags().add(UpdateBlockPacket.Flag.NETWORK);
         updateBlockPacket.getFlags().add(UpdateBlockPacket.Flag.NEIGHBORS);
         session.sendUpstreamPacket(updateBlockPacket);
+        session.getSubChunkCache().updateBedrockBlock(bedrockPosition.getX(), bedrockPosition.getY(), bedrockPosition.getZ(),
+            session.getBlockMappings().getBedrockAir().getRuntimeId());
 
         session.getItemFrameCache().remove(bedrockPosition, this);
 
@@ -199,16 +201,20 @@ public class ItemFrameEntity extends HangingEntity {
         updateBlockPacket.getFlags().add(UpdateBlockPacket.Flag.NEIGHBORS);
         session.sendUpstreamPacket(updateBlockPacket);
 
+        NbtMap tag = cachedTag != null ? cachedTag : getDefaultTag();
         BlockEntityDataPacket blockEntityDataPacket = new BlockEntityDataPacket();
         blockEntityDataPacket.setBlockPosition(bedrockPosition);
-        if (cachedTag != null) {
-            blockEntityDataPacket.setData(cachedTag);
-        } else {
-            blockEntityDataPacket.setData(getDefaultTag());
-        }
+        blockEntityDataPacket.setData(tag);
 
         session.sendUpstreamPacket(blockEntityDataPacket);
 
+        // The frame isn't part of the Java chunk, so keep it in any section the client has yet to request
+        int x = bedrockPosition.getX();
+        int y = bedrockPosition.getY();
+        int z = bedrockPosition.getZ();
+        session.getSubChunkCache().updateBedrockBlock(x, y, z, blockDefinition.getRuntimeId());
+        session.getSubChunkCache().updateBlockEntity(x, y, z, tag);
+
         changed = false;
     }
 
@@ -465,12 +465,22 @@ public class LivingEntity extends Entity implements Tickable {
 
     @Override
     public void tick() {
-        if (this.lerpSteps > 0) {
+        // Distant entities take longer to catch up, but need fewer packets to get there
+        if (this.lerpSteps > 0 && session.getEntityCache().getUpdateScheduler().isDue(this)) {
             float time = 1.0f / this.lerpSteps;
             float lerpXTotal = GenericMath.lerp(this.position.getX(), this.lerpPosition.getX(), time);
             float lerpYTotal = GenericMath.lerp(this.position.getY(), this.lerpPosition.getY(), time);
             float lerpZTotal = GenericMath.lerp(this.position.getZ(), this.lerpPosition.getZ(), time);
 
+            // Rotation queued this tick (for example from a head rotation packet) can ride along with this packet
+            int queuedMovement = queuedMovement();
+            if ((queuedMovement & MOVED_POSITION) == 0) {
+                clearQueuedMovement();
+                this.dirtyPitch |= (queuedMovement & MOVED_PITCH) != 0;
+                this.dirtyYaw |= (queuedMovement & MOVED_YAW) != 0;
+                this.dirtyHeadYaw |= (queuedMovement & MOVED_HEAD_YAW) != 0;
+            }
+
             MoveEntityDeltaPacket moveEntityPacket = new MoveEntityDeltaPacket();
             moveEntityPacket.getFlags().add(MoveEntityDeltaPacket.Flag.TELEPORTING);
             moveEntityPacket.setRuntimeEntityId(geyserId);
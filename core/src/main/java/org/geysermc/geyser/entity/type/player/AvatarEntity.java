@@ -143,6 +143,8 @@ public abstract class AvatarEntity extends LivingEntity {
         setHeadYaw(headYaw);
 
         setOnGround(isOnGround);
+        clearQueuedMovement();
+        flushQueuedUpdates();
 
         MovePlayerPacket movePlayerPacket = new MovePlayerPacket();
         movePlayerPacket.setRuntimeEntityId(geyserId);
@@ -171,11 +173,20 @@ public abstract class AvatarEntity extends LivingEntity {
 
         setOnGround(isOnGround);
 
+        if (this instanceof SessionPlayerEntity) {
+            sendMovement(MOVEMENT_QUEUED);
+        } else {
+            queueMovement(MOVEMENT_QUEUED);
+        }
+    }
+
+    @Override
+    protected void sendMovement(int changes) {
         MovePlayerPacket movePlayerPacket = new MovePlayerPacket();
         movePlayerPacket.setRuntimeEntityId(geyserId);
         movePlayerPacket.setPosition(bedrockPosition());
         movePlayerPacket.setRotation(bedrockRotation());
-        movePlayerPacket.setOnGround(isOnGround);
+        movePlayerPacket.setOnGround(onGround);
         movePlayerPacket.setMode(this instanceof SessionPlayerEntity ? MovePlayerPacket.Mode.TELEPORT : MovePlayerPacket.Mode.NORMAL);
 
         if (movePlayerPacket.getMode() == MovePlayerPacket.Mode.TELEPORT) {
@@ -27,7 +27,6 @@ package org.geysermc.geyser.inventory.updater;
 
 import lombok.AllArgsConstructor;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
-import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
 import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
 import org.geysermc.geyser.inventory.Inventory;
 import org.geysermc.geyser.session.GeyserSession;
@@ -58,10 +57,7 @@ public class ChestInventoryUpdater extends InventoryUpdater {
             }
         }
 
-        InventoryContentPacket contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(inventory.getBedrockId());
-        contentPacket.setContents(bedrockItems);
-        session.sendUpstreamPacket(contentPacket);
+        session.getInventoryContentCache().sendContents(inventory.getBedrockId(), bedrockItems);
     }
 
     @Override
@@ -26,7 +26,6 @@
 package org.geysermc.geyser.inventory.updater;
 
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
-import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
 import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
 import org.geysermc.geyser.inventory.Inventory;
 import org.geysermc.geyser.session.GeyserSession;
@@ -46,10 +45,7 @@ public class ContainerInventoryUpdater extends InventoryUpdater {
             bedrockItems[translator.javaSlotToBedrock(i)] = inventory.getItem(i).getItemData(session);
         }
 
-        InventoryContentPacket contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(inventory.getBedrockId());
-        contentPacket.setContents(Arrays.asList(bedrockItems));
-        session.sendUpstreamPacket(contentPacket);
+        session.getInventoryContentCache().sendContents(inventory.getBedrockId(), Arrays.asList(bedrockItems));
     }
 
     @Override
@@ -27,7 +27,6 @@ package org.geysermc.geyser.inventory.updater;
 
 import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerId;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
-import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
 import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
 import org.geysermc.geyser.inventory.Inventory;
 import org.geysermc.geyser.session.GeyserSession;
@@ -46,17 +45,13 @@ public class CrafterInventoryUpdater extends InventoryUpdater {
     @Override
     public void updateInventory(InventoryTranslator<?> translator, GeyserSession session, Inventory inventory) {
         ItemData[] bedrockItems;
-        InventoryContentPacket contentPacket;
 
         // crafter grid - but excluding the result slot
         bedrockItems = new ItemData[CrafterInventoryTranslator.GRID_SIZE];
         for (int i = 0; i < bedrockItems.length; i++) {
             bedrockItems[translator.javaSlotToBedrock(i)] = inventory.getItem(i).getItemData(session);
         }
-        contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(inventory.getBedrockId());
-        contentPacket.setContents(Arrays.asList(bedrockItems));
-        session.sendUpstreamPacket(contentPacket);
+        session.getInventoryContentCache().sendContents(inventory.getBedrockId(), Arrays.asList(bedrockItems));
 
         // inventory and hotbar
         bedrockItems = new ItemData[36];
@@ -64,10 +59,7 @@ public class CrafterInventoryUpdater extends InventoryUpdater {
             final int offset = i < 9 ? 27 : -9;
             bedrockItems[i] = inventory.getItem(CrafterInventoryTranslator.GRID_SIZE + i + offset).getItemData(session);
         }
-        contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(ContainerId.INVENTORY);
-        contentPacket.setContents(Arrays.asList(bedrockItems));
-        session.sendUpstreamPacket(contentPacket);
+        session.getInventoryContentCache().sendContents(ContainerId.INVENTORY, Arrays.asList(bedrockItems));
 
         // Crafter result - it doesn't come after the grid, as explained elsewhere.
         updateSlot(translator, session, inventory, CrafterInventoryTranslator.JAVA_RESULT_SLOT);
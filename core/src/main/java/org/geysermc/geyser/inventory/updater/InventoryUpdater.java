@@ -27,7 +27,6 @@ package org.geysermc.geyser.inventory.updater;
 
 import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerId;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
-import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
 import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
 import org.geysermc.geyser.inventory.Inventory;
 import org.geysermc.geyser.session.GeyserSession;
@@ -42,10 +41,7 @@ public class InventoryUpdater {
             final int offset = i < 9 ? 27 : -9;
             bedrockItems[i] = inventory.getItem(translator.size + i + offset).getItemData(session);
         }
-        InventoryContentPacket contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(ContainerId.INVENTORY);
-        contentPacket.setContents(Arrays.asList(bedrockItems));
-        session.sendUpstreamPacket(contentPacket);
+        session.getInventoryContentCache().sendContents(ContainerId.INVENTORY, Arrays.asList(bedrockItems));
     }
 
     public boolean updateSlot(InventoryTranslator<?> translator, GeyserSession session, Inventory inventory, int javaSlot) {
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool, shared between all sessions, that converts Java chunk data into Bedrock chunk data
+ * away from the event loops of the sessions.
+ */
+public final class ChunkEncodingPool {
+    /**
+     * How many chunks can be waiting per thread before conversion falls back to the thread that submitted it.
+     */
+    private static final int QUEUE_SIZE_PER_THREAD = 256;
+
+    private final ThreadPoolExecutor executor;
+
+    public ChunkEncodingPool(int threads) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(threads * QUEUE_SIZE_PER_THREAD),
+            new DefaultThreadFactory("Geyser Chunk Encoder", true),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @return the amount of chunks waiting for a free thread
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return the amount of threads currently converting a chunk
+     */
+    public int activeThreads() {
+        return executor.getActiveCount();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
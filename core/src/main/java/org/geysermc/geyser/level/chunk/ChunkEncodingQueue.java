@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.metrics.GeyserMetrics;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the packets of a session in order while chunks are being converted on the {@link ChunkEncodingPool}.
+ * <p>
+ * Each chunk is converted off the event loop, but the result is only handled once every packet received before it
+ * has been handled. Packets received while a chunk is still being converted are held back for the same reason -
+ * a block update must not be applied before the chunk it is in has been sent. Chunks received after such a packet
+ * are held back as well, as the packet may change what the chunk is converted with, such as the dimension.
+ * <p>
+ * Apart from {@link #size()}, this must only be used on the event loop of the session.
+ */
+public final class ChunkEncodingQueue {
+    private final GeyserSession session;
+    private final Deque<Entry<?>> pending = new ArrayDeque<>();
+    /**
+     * Entries added while a queued entry is being handled. They take the place of that entry, ahead of anything
+     * that was queued after it.
+     */
+    private final List<Entry<?>> inserted = new ArrayList<>();
+    private boolean draining;
+    private int deferredTasks;
+    private volatile int size;
+
+    public ChunkEncodingQueue(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Runs the encoder on the chunk encoding pool, and the completion on the event loop in the order this was called.
+     * If no pool is configured, both run immediately.
+     */
+    public <T> void submit(Supplier<T> encoder, Consumer<T> completion) {
+        boolean timed = GeyserMetrics.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
+
+        ChunkEncodingPool pool = GeyserImpl.getInstance().getChunkEncodingPool();
+        if (pool == null) {
+            T result = encoder.get();
+            if (timed) {
+                GeyserMetrics.recordChunkTranslation(System.nanoTime() - start);
+            }
+            if (pending.isEmpty()) {
+                completion.accept(result);
+            } else {
+                add(new Entry<>(CompletableFuture.completedFuture(result), completion, false));
+                drain();
+            }
+            return;
+        }
+
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(encoder, pool.executor());
+        add(new Entry<>(future, completion, false));
+        future.whenComplete((result, throwable) -> {
+            if (timed) {
+                // Includes the time spent waiting for a free chunk encoding thread
+                GeyserMetrics.recordChunkTranslation(System.nanoTime() - start);
+            }
+            session.ensureInEventLoop(this::drain);
+        });
+    }
+
+    /**
+     * If chunks are still being converted, holds back the given task until they have been sent.
+     *
+     * @return true if the task was held back, false if it should be run now by the caller
+     */
+    public boolean deferIfPending(Runnable task) {
+        if (pending.isEmpty()) {
+            return false;
+        }
+        defer(task);
+        return true;
+    }
+
+    /**
+     * If packets are being held back, holds back the given chunk task as well, so it sees the session state those
+     * packets leave behind. Unlike {@link #deferIfPending(Runnable)}, chunks that are only waiting for other chunks
+     * don't hold it back, so these can still be converted at the same time.
+     *
+     * @return true if the task was held back, false if it should be run now by the caller
+     */
+    public boolean deferIfBlocked(Runnable task) {
+        if (deferredTasks == 0) {
+            return false;
+        }
+        defer(task);
+        return true;
+    }
+
+    /**
+     * @return the amount of chunks and packets waiting to be handled
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        pending.clear();
+        inserted.clear();
+        deferredTasks = 0;
+        size = 0;
+    }
+
+    private void defer(Runnable task) {
+        deferredTasks++;
+        add(new Entry<Void>(CompletableFuture.completedFuture(null), ignored -> task.run(), true));
+    }
+
+    private void add(Entry<?> entry) {
+        if (draining) {
+            inserted.add(entry);
+        } else {
+            pending.add(entry);
+        }
+        size = pending.size() + inserted.size();
+    }
+
+    private void drain() {
+        if (draining) {
+            // A queued entry is being handled further up the stack, which carries on once it is done
+            return;
+        }
+
+        Entry<?> entry;
+        while ((entry = pending.peek()) != null && entry.future().isDone()) {
+            pending.poll();
+            if (entry.deferred()) {
+                deferredTasks--;
+            }
+
+            draining = true;
+            try {
+                entry.complete();
+            } catch (Throwable t) {
+                session.getGeyser().getLogger().error("Error while handling a queued packet for " + session.bedrockUsername(), t);
+            } finally {
+                draining = false;
+                // e.g. a held back chunk that was submitted once its turn came
+                for (int i = inserted.size() - 1; i >= 0; i--) {
+                    pending.addFirst(inserted.get(i));
+                }
+                inserted.clear();
+                size = pending.size();
+            }
+        }
+    }
+
+    private record Entry<T>(CompletableFuture<T> future, Consumer<T> completion, boolean deferred) {
+        void complete() {
+            completion.accept(future.join());
+        }
+    }
+}
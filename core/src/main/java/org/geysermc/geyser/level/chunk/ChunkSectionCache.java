@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.geyser.util.XXHash64;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.GlobalPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.Palette;
+
+import java.util.Arrays;
+
+/**
+ * Translated chunk sections shared between all sessions. Servers such as lobbies send the same sections to every player,
+ * so each section only has to be translated and encoded once for every set of block mappings.
+ * <p>
+ * Sections are looked up by a hash of their Java palette and block data, and the Java data is compared on every hit,
+ * so a hash collision can never send the wrong blocks. Sections returned by this cache are shared, and must be copied
+ * before they are modified.
+ */
+public final class ChunkSectionCache {
+    /**
+     * Rough per-entry overhead of the cache itself, the key, and the section objects.
+     */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Cache<Key, Entry> cache;
+
+    public ChunkSectionCache(int maximumMegabytes) {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(maximumMegabytes * 1024L * 1024L)
+            // The encoded bytes are stored alongside the section they were encoded from, which is about the same size
+            .weigher((Key key, Entry value) -> ENTRY_OVERHEAD + value.section().encodedStorage().length * 2
+                + value.javaData().length * Long.BYTES + (value.javaPalette() == null ? 0 : value.javaPalette().length * Integer.BYTES))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Hashes the palette and block data of a Java section. Singleton palettes are cheap enough to translate
+     * that they should not be cached.
+     */
+    public static long hash(DataPalette blockData) {
+        Palette palette = blockData.getPalette();
+        long seed;
+        if (palette instanceof GlobalPalette) {
+            seed = -1L;
+        } else {
+            long[] states = new long[palette.size()];
+            for (int i = 0; i < states.length; i++) {
+                states[i] = palette.idToState(i);
+            }
+            seed = XXHash64.hash(states, 0L);
+        }
+        return XXHash64.hash(blockData.getStorage().getData(), seed ^ blockData.getStorage().getBitsPerEntry());
+    }
+
+    /**
+     * @param hash the hash of the block data, from {@link #hash(DataPalette)}
+     * @param blockData the Java block data the section must have been translated from
+     */
+    public @Nullable CachedChunkSection get(BlockMappings mappings, long hash, DataPalette blockData) {
+        Entry entry = cache.getIfPresent(new Key(mappings, hash));
+        if (entry == null || !entry.matches(blockData)) {
+            return null;
+        }
+        return entry.section();
+    }
+
+    /**
+     * Encodes and caches a freshly translated section. The section must not be modified afterwards.
+     *
+     * @param hash the hash of the block data, from {@link #hash(DataPalette)}
+     * @param blockData the Java block data the section was translated from
+     */
+    public CachedChunkSection put(BlockMappings mappings, long hash, DataPalette blockData, GeyserChunkSection section,
+                                  boolean hasBedrockOnlyBlockEntities) {
+        ByteBuf buffer = Unpooled.buffer(section.estimateNetworkSize());
+        section.writeStorageToNetwork(buffer);
+        CachedChunkSection cached = new CachedChunkSection(section, ByteBufUtil.getBytes(buffer), hasBedrockOnlyBlockEntities);
+        cache.put(new Key(mappings, hash), new Entry(javaPalette(blockData.getPalette()), blockData.getStorage().getBitsPerEntry(),
+            blockData.getStorage().getData().clone(), cached));
+        return cached;
+    }
+
+    /**
+     * @return the block states of the palette, or null for the global palette
+     */
+    private static int @Nullable [] javaPalette(Palette palette) {
+        if (palette instanceof GlobalPalette) {
+            return null;
+        }
+        int[] states = new int[palette.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = palette.idToState(i);
+        }
+        return states;
+    }
+
+    /**
+     * @return the hit, miss and eviction counts of this cache
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @param section the translated section. Its sub chunk index is meaningless; use {@link GeyserChunkSection#copy(int)}
+     *                to obtain a section that can be modified
+     * @param encodedStorage the block storages of the section, as written by {@link GeyserChunkSection#writeStorageToNetwork(ByteBuf)}
+     * @param hasBedrockOnlyBlockEntities whether the section contains blocks that need a block entity on Bedrock only
+     */
+    public record CachedChunkSection(GeyserChunkSection section, byte[] encodedStorage, boolean hasBedrockOnlyBlockEntities) {
+
+        public void writeToNetwork(ByteBuf buffer, int subChunkIndex) {
+            GeyserChunkSection.writeToNetwork(buffer, section.getBlockStorageArray().length, subChunkIndex, encodedStorage);
+        }
+    }
+
+    /**
+     * A cached section together with a copy of the Java data it was translated from.
+     */
+    private record Entry(int @Nullable [] javaPalette, int javaBitsPerEntry, long[] javaData, CachedChunkSection section) {
+
+        boolean matches(DataPalette blockData) {
+            Palette palette = blockData.getPalette();
+            if (javaPalette == null) {
+                if (!(palette instanceof GlobalPalette)) {
+                    return false;
+                }
+            } else {
+                if (palette instanceof GlobalPalette || palette.size() != javaPalette.length) {
+                    return false;
+                }
+                for (int i = 0; i < javaPalette.length; i++) {
+                    if (palette.idToState(i) != javaPalette[i]) {
+                        return false;
+                    }
+                }
+            }
+            return blockData.getStorage().getBitsPerEntry() == javaBitsPerEntry
+                && Arrays.equals(blockData.getStorage().getData(), javaData);
+        }
+    }
+
+    /**
+     * Block mappings are compared by identity - each set of mappings is created once, and comparing them by value
+     * would be far too expensive.
+     */
+    private record Key(BlockMappings mappings, long hash) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && this.mappings == other.mappings && this.hash == other.hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mappings) + Long.hashCode(hash);
+        }
+    }
+}
@@ -25,14 +25,260 @@
 
 package org.geysermc.geyser.level.chunk;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.GlobalPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.Palette;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.SingletonPalette;
+
+import java.util.Arrays;
 
 /**
  * Acts as a lightweight chunk class that doesn't store biomes, heightmaps or block entities.
+ * <p>
+ * Block states are stored in the same packed format as Java sends them, but without any palette objects:
+ * sections with a single block state are just that state, sections using the global palette store the
+ * states themselves, and other sections keep their palette as a plain array.
  */
-public record GeyserChunk(DataPalette[] sections) {
+public final class GeyserChunk {
+    /**
+     * Java never uses fewer bits than this for sections with a palette.
+     */
+    private static final int MIN_PALETTE_BITS = 4;
+    /**
+     * Java switches to the global palette once a palette needs more bits than this.
+     */
+    private static final int MAX_PALETTE_BITS = 8;
+
+    /**
+     * The block state of each section that consists of one block state only. Unused for other sections.
+     */
+    private final int[] singletons;
+    /**
+     * The packed data of each section, in YZX order, or null if the section consists of one block state only.
+     */
+    private final long[][] data;
+    /**
+     * The palette of each section, or null if the section is a singleton or uses the global palette.
+     */
+    private final int[][] palettes;
+    private final byte[] bits;
+    /**
+     * The bits per entry of sections that switch to the global palette.
+     */
+    private final byte globalPaletteBits;
+
+    GeyserChunk(int sectionCount, int globalPaletteBits) {
+        this.singletons = new int[sectionCount];
+        this.data = new long[sectionCount][];
+        this.palettes = new int[sectionCount][];
+        this.bits = new byte[sectionCount];
+        this.globalPaletteBits = (byte) globalPaletteBits;
+    }
 
     public static GeyserChunk from(DataPalette[] sections) {
-        return new GeyserChunk(sections);
+        GeyserChunk chunk = new GeyserChunk(sections.length, globalPaletteBits());
+        for (int i = 0; i < sections.length; i++) {
+            DataPalette section = sections[i];
+            if (section == null) {
+                chunk.singletons[i] = Block.JAVA_AIR_ID;
+                continue;
+            }
+
+            Palette palette = section.getPalette();
+            if (palette instanceof SingletonPalette) {
+                chunk.singletons[i] = palette.idToState(0);
+                continue;
+            }
+
+            // The Java data isn't used anywhere else once it's cached, so there is no need to copy it
+            chunk.data[i] = section.getStorage().getData();
+            chunk.bits[i] = (byte) section.getStorage().getBitsPerEntry();
+            if (!(palette instanceof GlobalPalette)) {
+                int[] states = new int[palette.size()];
+                for (int id = 0; id < states.length; id++) {
+                    states[id] = palette.idToState(id);
+                }
+                chunk.palettes[i] = states;
+            }
+        }
+        return chunk;
+    }
+
+    public int sectionCount() {
+        return singletons.length;
+    }
+
+    /**
+     * @return the bits per entry of a section, or 0 if it consists of one block state only
+     */
+    int bitsPerEntry(int section) {
+        return data[section] == null ? 0 : bits[section];
+    }
+
+    /**
+     * @param x the X coordinate, from 0 to 15
+     * @param y the Y coordinate within the section, from 0 to 15
+     * @param z the Z coordinate, from 0 to 15
+     */
+    public int get(int section, int x, int y, int z) {
+        long[] data = this.data[section];
+        if (data == null) {
+            return singletons[section];
+        }
+
+        int value = read(data, bits[section], index(x, y, z));
+        int[] palette = palettes[section];
+        return palette == null ? value : palette[value];
+    }
+
+    /**
+     * @return by how much the {@link #estimateMemoryUsage() estimated memory usage} of this chunk changed, in bytes
+     */
+    public long set(int section, int x, int y, int z, int state) {
+        // Only known once the section is about to change size
+        long previousUsage = -1;
+        long[] data = this.data[section];
+        if (data == null) {
+            int singleton = singletons[section];
+            if (singleton == state) {
+                return 0;
+            }
+            // Expand to a palette containing the previous block state, which every position refers to
+            data = new long[dataLength(MIN_PALETTE_BITS)];
+            this.data[section] = data;
+            this.palettes[section] = new int[] {singleton};
+            this.bits[section] = MIN_PALETTE_BITS;
+            previousUsage = 0;
+        }
+
+        int[] palette = palettes[section];
+        int value = state;
+        if (palette != null) {
+            value = indexOf(palette, state);
+            if (value == -1) {
+                if (previousUsage == -1) {
+                    previousUsage = estimateSectionUsage(section);
+                }
+                value = addToPalette(section, state);
+                data = this.data[section];
+            }
+        }
+
+        write(data, bits[section], index(x, y, z), value);
+        return previousUsage == -1 ? 0 : estimateSectionUsage(section) - previousUsage;
+    }
+
+    /**
+     * @return a rough estimate of the memory used by this chunk, in bytes
+     */
+    public long estimateMemoryUsage() {
+        // Object header and fields, then the four per-section arrays
+        long size = 40 + (16 + 4L * singletons.length) + 2 * (16 + 4L * data.length) + (16 + bits.length);
+        for (int i = 0; i < data.length; i++) {
+            size += estimateSectionUsage(i);
+        }
+        return size;
+    }
+
+    /**
+     * @return a rough estimate of the memory used by the data and palette of a section, in bytes
+     */
+    private long estimateSectionUsage(int section) {
+        long size = 0;
+        if (data[section] != null) {
+            size += 16 + 8L * data[section].length;
+        }
+        if (palettes[section] != null) {
+            size += 16 + 4L * palettes[section].length;
+        }
+        return size;
+    }
+
+    /**
+     * Adds a block state to the palette of a section, growing or replacing its data if necessary.
+     *
+     * @return the palette ID of the new state, or the state itself if the section now uses the global palette
+     */
+    private int addToPalette(int section, int state) {
+        int[] palette = palettes[section];
+        int id = palette.length;
+        int bits = this.bits[section];
+        if (id < (1 << bits)) {
+            palettes[section] = appendToPalette(palette, state);
+            return id;
+        }
+
+        if (bits < MAX_PALETTE_BITS) {
+            palettes[section] = appendToPalette(palette, state);
+            resize(section, bits + 1, null);
+            return id;
+        }
+
+        // Too many states; switch to the global palette like Java does
+        palettes[section] = null;
+        resize(section, globalPaletteBits, palette);
+        return state;
+    }
+
+    private static int[] appendToPalette(int[] palette, int state) {
+        int[] newPalette = Arrays.copyOf(palette, palette.length + 1);
+        newPalette[palette.length] = state;
+        return newPalette;
+    }
+
+    /**
+     * Repacks the data of a section with a different amount of bits per entry.
+     *
+     * @param oldPalette if not null, values are translated through this palette while repacking
+     */
+    private void resize(int section, int newBits, int @Nullable [] oldPalette) {
+        long[] oldData = data[section];
+        int oldBits = bits[section];
+        long[] newData = new long[dataLength(newBits)];
+        for (int index = 0; index < BlockStorage.SIZE; index++) {
+            int value = read(oldData, oldBits, index);
+            write(newData, newBits, index, oldPalette == null ? value : oldPalette[value]);
+        }
+        data[section] = newData;
+        bits[section] = (byte) newBits;
+    }
+
+    private static int index(int x, int y, int z) {
+        return y << 8 | z << 4 | x;
+    }
+
+    private static int read(long[] data, int bits, int index) {
+        int entriesPerLong = Long.SIZE / bits;
+        int offset = (index % entriesPerLong) * bits;
+        return (int) ((data[index / entriesPerLong] >>> offset) & ((1L << bits) - 1));
+    }
+
+    private static void write(long[] data, int bits, int index, int value) {
+        int entriesPerLong = Long.SIZE / bits;
+        int longIndex = index / entriesPerLong;
+        int offset = (index % entriesPerLong) * bits;
+        long mask = (1L << bits) - 1;
+        data[longIndex] = data[longIndex] & ~(mask << offset) | (value & mask) << offset;
+    }
+
+    private static int indexOf(int[] palette, int state) {
+        for (int i = 0; i < palette.length; i++) {
+            if (palette[i] == state) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int dataLength(int bits) {
+        int entriesPerLong = Long.SIZE / bits;
+        return (BlockStorage.SIZE + entriesPerLong - 1) / entriesPerLong;
+    }
+
+    private static int globalPaletteBits() {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(BlockRegistries.BLOCK_STATES.get().size() - 1);
     }
 }
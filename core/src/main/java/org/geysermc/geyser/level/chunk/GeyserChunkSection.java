@@ -63,11 +63,28 @@ public class GeyserChunkSection {
         buffer.writeByte(this.storage.length);
         // Required for chunk version 9+
         buffer.writeByte(this.subChunkIndex);
+        writeStorageToNetwork(buffer);
+    }
+
+    /**
+     * Writes only the block storages of this section, without the header that {@link #writeToNetwork(ByteBuf)} adds.
+     */
+    public void writeStorageToNetwork(ByteBuf buffer) {
         for (BlockStorage blockStorage : this.storage) {
             blockStorage.writeToNetwork(buffer);
         }
     }
 
+    /**
+     * Writes a section whose block storages have already been encoded with {@link #writeStorageToNetwork(ByteBuf)}.
+     */
+    public static void writeToNetwork(ByteBuf buffer, int storageCount, int subChunkIndex, byte[] encodedStorage) {
+        buffer.writeByte(CHUNK_SECTION_VERSION);
+        buffer.writeByte(storageCount);
+        buffer.writeByte(subChunkIndex);
+        buffer.writeBytes(encodedStorage);
+    }
+
     public int estimateNetworkSize() {
         int size = 2; // Version + storage count
         for (BlockStorage blockStorage : this.storage) {
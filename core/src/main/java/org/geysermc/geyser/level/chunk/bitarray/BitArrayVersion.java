@@ -26,7 +26,11 @@
 package org.geysermc.geyser.level.chunk.bitarray;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.level.chunk.BlockStorage;
 import org.geysermc.geyser.util.MathUtils;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+
+import java.util.BitSet;
 
 public enum BitArrayVersion {
     V16(16, 2, null),
@@ -88,6 +92,20 @@ public enum BitArrayVersion {
         return this.createArray(size, new int[MathUtils.ceil((float) size / entriesPerWord)]);
     }
 
+    /**
+     * Creates a chunk section sized array from Java block data, converting it from YZX to XZY order.
+     *
+     * @param javaStorage the Java block data. Its values must fit in this version
+     * @param waterloggedPaletteIds the palette IDs that are waterlogged, or null if there are none
+     * @param waterloggedWords if waterlogged palette IDs were given, the words of a {@link #V1} array that will
+     *                         have the position of every waterlogged block set
+     */
+    public BitArray createArray(BitStorage javaStorage, @Nullable BitSet waterloggedPaletteIds, int @Nullable [] waterloggedWords) {
+        int[] words = new int[MathUtils.ceil((float) BlockStorage.SIZE / entriesPerWord)];
+        SectionTranscoder.transcode(javaStorage.getData(), javaStorage.getBitsPerEntry(), this, words, waterloggedPaletteIds, waterloggedWords);
+        return this.createArray(BlockStorage.SIZE, words);
+    }
+
     public BitArray createArray(int size, int[] words) {
         if (this == V3 || this == V5 || this == V6) {
             // Padded palettes aren't able to use bitwise operations due to their padding.
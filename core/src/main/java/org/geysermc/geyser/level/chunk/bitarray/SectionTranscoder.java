@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.level.chunk.BlockStorage;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Converts Java chunk section data, stored in YZX order in longs, into Bedrock words in XZY order.
+ * <p>
+ * Rather than reading and writing one entry at a time, Bedrock words are filled in order so each is only
+ * written once, and the position of every Java entry is looked up from a table instead of being calculated.
+ */
+final class SectionTranscoder {
+    /**
+     * Per Java bits per entry, the location of each Java entry in XZY order, as {@code longIndex << 6 | bitOffset}.
+     */
+    private static final AtomicReferenceArray<int[]> LOCATIONS = new AtomicReferenceArray<>(Long.SIZE + 1);
+
+    private SectionTranscoder() {
+    }
+
+    static void transcode(long[] javaData, int javaBits, BitArrayVersion version, int[] words,
+                          @Nullable BitSet waterloggedPaletteIds, int @Nullable [] waterloggedWords) {
+        int[] locations = locations(javaBits);
+        long mask = (1L << javaBits) - 1;
+        int bits = version.bits;
+        int entriesPerWord = version.entriesPerWord;
+
+        int xzy = 0;
+        for (int i = 0; i < words.length; i++) {
+            // Padded versions can't fill their last word entirely
+            int end = Math.min(xzy + entriesPerWord, BlockStorage.SIZE);
+            int word = 0;
+            if (waterloggedPaletteIds == null) {
+                for (int shift = 0; xzy < end; xzy++, shift += bits) {
+                    int location = locations[xzy];
+                    word |= (int) ((javaData[location >>> 6] >>> (location & 63)) & mask) << shift;
+                }
+            } else {
+                for (int shift = 0; xzy < end; xzy++, shift += bits) {
+                    int location = locations[xzy];
+                    int paletteId = (int) ((javaData[location >>> 6] >>> (location & 63)) & mask);
+                    word |= paletteId << shift;
+                    if (waterloggedPaletteIds.get(paletteId)) {
+                        waterloggedWords[xzy >> 5] |= 1 << (xzy & 31);
+                    }
+                }
+            }
+            words[i] = word;
+        }
+    }
+
+    private static int[] locations(int javaBits) {
+        int[] locations = LOCATIONS.get(javaBits);
+        if (locations == null) {
+            // Java entries never span two longs
+            int entriesPerLong = Long.SIZE / javaBits;
+            locations = new int[BlockStorage.SIZE];
+            for (int xzy = 0; xzy < BlockStorage.SIZE; xzy++) {
+                int yzx = (xzy >> 8) | (xzy & 0x0F0) | ((xzy & 0x00F) << 8);
+                locations[xzy] = (yzx / entriesPerLong) << 6 | (yzx % entriesPerLong) * javaBits;
+            }
+            LOCATIONS.set(javaBits, locations);
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.metrics;
+
+import com.google.common.cache.CacheStats;
+import io.netty.channel.Channel;
+import org.cloudburstmc.protocol.bedrock.netty.codec.packet.BedrockPacketCodec;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.entity.EntityUpdateQueue;
+import org.geysermc.geyser.entity.EntityUpdateScheduler;
+import org.geysermc.geyser.level.chunk.ChunkEncodingPool;
+import org.geysermc.geyser.level.chunk.ChunkSectionCache;
+import org.geysermc.geyser.network.PlayerEventLoopGroup;
+import org.geysermc.geyser.network.netty.GeyserServer;
+import org.geysermc.geyser.pack.PackTransferScheduler;
+import org.geysermc.geyser.pack.ResourcePackDownloadLimiter;
+import org.geysermc.geyser.scoreboard.ScoreboardUpdater;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkBlobCache;
+import org.geysermc.geyser.session.cache.InventoryContentCache;
+import org.geysermc.geyser.skin.SkinProvider;
+import org.geysermc.geyser.translator.item.ItemTranslationCache;
+import org.geysermc.geyser.translator.protocol.PacketTranslator;
+import org.geysermc.geyser.translator.protocol.java.JavaCommandsTranslator;
+import org.geysermc.geyser.translator.text.MessageTranslator;
+import org.geysermc.geyser.util.CoalescingHttpClient;
+import org.geysermc.geyser.util.LatencyHistogram;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the internals of Geyser, exposed by the {@link MetricsServer}.
+ * <p>
+ * Nothing is measured unless the metrics endpoint is enabled; callers check {@link #isEnabled()} before timing anything.
+ * Counters are never reset, so they keep counting across reloads.
+ */
+public final class GeyserMetrics {
+    private static final TrafficCountingHandler UPSTREAM_PACKETS = new TrafficCountingHandler(false);
+    private static final TrafficCountingHandler UPSTREAM_BYTES = new TrafficCountingHandler(true);
+    private static final TrafficCountingHandler DOWNSTREAM_BYTES = new TrafficCountingHandler(true);
+    private static final LongAdder DOWNSTREAM_PACKETS_RECEIVED = new LongAdder();
+    private static final LongAdder DOWNSTREAM_PACKETS_SENT = new LongAdder();
+    private static final LatencyHistogram CHUNK_TRANSLATION = new LatencyHistogram(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000);
+    private static final Map<Class<?>, TranslatorStats> TRANSLATORS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private GeyserMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void setEnabled(boolean enabled) {
+        GeyserMetrics.enabled = enabled;
+    }
+
+    /**
+     * Counts the packets and bytes of a Bedrock connection. Must be called after the Bedrock codec has been added.
+     */
+    public static void trackUpstream(Channel channel) {
+        if (!enabled) {
+            return;
+        }
+        // Bytes are counted before RakNet frames them, and packets before they are batched
+        channel.pipeline().addFirst(TrafficCountingHandler.NAME + "-bytes", UPSTREAM_BYTES);
+        channel.pipeline().addAfter(BedrockPacketCodec.NAME, TrafficCountingHandler.NAME, UPSTREAM_PACKETS);
+    }
+
+    /**
+     * Counts the bytes of a Java connection. Packets are counted by the session listener instead.
+     */
+    public static void trackDownstream(Channel channel) {
+        if (!enabled || channel.pipeline().get(TrafficCountingHandler.NAME) != null) {
+            return;
+        }
+        channel.pipeline().addFirst(TrafficCountingHandler.NAME, DOWNSTREAM_BYTES);
+    }
+
+    public static void downstreamPacketReceived() {
+        DOWNSTREAM_PACKETS_RECEIVED.increment();
+    }
+
+    public static void downstreamPacketSent() {
+        DOWNSTREAM_PACKETS_SENT.increment();
+    }
+
+    public static void recordTranslation(PacketTranslator<?> translator, long nanos) {
+        TranslatorStats stats = TRANSLATORS.get(translator.getClass());
+        if (stats == null) {
+            stats = TRANSLATORS.computeIfAbsent(translator.getClass(), $ -> new TranslatorStats());
+        }
+        stats.calls.increment();
+        stats.nanos.add(nanos);
+    }
+
+    /**
+     * @param nanos the time from a chunk being received to it being ready to send
+     */
+    public static void recordChunkTranslation(long nanos) {
+        CHUNK_TRANSLATION.record(nanos);
+    }
+
+    /**
+     * @return every metric in the Prometheus text format
+     */
+    static String write(GeyserImpl geyser) {
+        PrometheusWriter writer = new PrometheusWriter();
+
+        int sessions = geyser.getSessionManager().getSessions().size();
+        writer.header("geyser_sessions", "gauge", "Connected Bedrock players.");
+        writer.sample("geyser_sessions", "state", "active", sessions);
+        writer.sample("geyser_sessions", "state", "pending", Math.max(0, geyser.getSessionManager().size() - sessions));
+
+        writeTraffic(writer, "geyser_upstream_packets_total", "Bedrock packets, before batching.", UPSTREAM_PACKETS.received(), UPSTREAM_PACKETS.sent());
+        writeTraffic(writer, "geyser_upstream_bytes_total", "Bedrock bytes, before RakNet framing.", UPSTREAM_BYTES.received(), UPSTREAM_BYTES.sent());
+        writeTraffic(writer, "geyser_downstream_packets_total", "Java packets.", DOWNSTREAM_PACKETS_RECEIVED.sum(), DOWNSTREAM_PACKETS_SENT.sum());
+        writeTraffic(writer, "geyser_downstream_bytes_total", "Java bytes.", DOWNSTREAM_BYTES.received(), DOWNSTREAM_BYTES.sent());
+
+        writer.header("geyser_translator_calls_total", "counter", "Packets handled by each translator.");
+        TRANSLATORS.forEach((translator, stats) -> writer.sample("geyser_translator_calls_total", "translator", translator.getSimpleName(), stats.calls.sum()));
+        writer.header("geyser_translator_seconds_total", "counter", "Time spent in each translator.");
+        TRANSLATORS.forEach((translator, stats) -> writer.sample("geyser_translator_seconds_total", "translator", translator.getSimpleName(), stats.nanos.sum() / 1e9));
+
+        GeyserServer server = geyser.getGeyserServer();
+        PlayerEventLoopGroup playerGroup = server == null ? null : server.getPlayerGroup();
+        if (playerGroup != null) {
+            List<PlayerEventLoopGroup.PlayerEventLoop> loops = playerGroup.loops();
+            writer.header("geyser_event_loop_pending_tasks", "gauge", "Tasks waiting to run on each player thread.");
+            for (int i = 0; i < loops.size(); i++) {
+                writer.sample("geyser_event_loop_pending_tasks", "loop", Integer.toString(i), loops.get(i).pendingTasks());
+            }
+            writer.header("geyser_event_loop_utilisation", "gauge", "Fraction of the last second each player thread spent running tasks.");
+            for (int i = 0; i < loops.size(); i++) {
+                writer.sample("geyser_event_loop_utilisation", "loop", Integer.toString(i), loops.get(i).utilisation());
+            }
+            writer.header("geyser_event_loop_sessions", "gauge", "Sessions placed on each player thread.");
+            for (int i = 0; i < loops.size(); i++) {
+                writer.sample("geyser_event_loop_sessions", "loop", Integer.toString(i), loops.get(i).sessions());
+            }
+        }
+
+        writer.histogram("geyser_chunk_translation_seconds", "Time from a Java chunk being received to its Bedrock chunk being ready.", CHUNK_TRANSLATION);
+        ChunkEncodingPool chunkEncodingPool = geyser.getChunkEncodingPool();
+        if (chunkEncodingPool != null) {
+            writer.gauge("geyser_chunk_encoding_queue_depth", "Chunks waiting for a chunk encoding thread.", chunkEncodingPool.queueDepth());
+            writer.gauge("geyser_chunk_encoding_active_threads", "Chunk encoding threads that are converting a chunk.", chunkEncodingPool.activeThreads());
+        }
+        ChunkSectionCache chunkSectionCache = geyser.getChunkSectionCache();
+        if (chunkSectionCache != null) {
+            CacheStats stats = chunkSectionCache.stats();
+            writer.counter("geyser_chunk_section_cache_hits_total", "Chunk sections shared from the cache.", stats.hitCount());
+            writer.counter("geyser_chunk_section_cache_misses_total", "Chunk sections that had to be converted.", stats.missCount());
+            writer.gauge("geyser_chunk_section_cache_size", "Chunk sections in the cache.", chunkSectionCache.size());
+        }
+        writer.counter("geyser_chunk_blob_hits_total", "Chunk blobs that clients already had stored.", ChunkBlobCache.hits());
+        writer.counter("geyser_chunk_blob_misses_total", "Chunk blobs that had to be sent to clients.", ChunkBlobCache.misses());
+        long chunkCacheMemory = 0;
+        for (GeyserSession session : geyser.getSessionManager().getSessions().values()) {
+            chunkCacheMemory += session.getChunkCache().estimateMemoryUsage();
+        }
+        writer.gauge("geyser_chunk_cache_memory_bytes", "Rough memory used by the chunks kept for block lookups.", chunkCacheMemory);
+
+        CacheStats messageStats = MessageTranslator.cacheStats();
+        writer.counter("geyser_message_cache_hits_total", "Text components converted from the cache.", messageStats.hitCount());
+        writer.counter("geyser_message_cache_misses_total", "Text components that had to be converted.", messageStats.missCount());
+        writer.counter("geyser_message_cache_evictions_total", "Converted text components removed from the cache.", messageStats.evictionCount());
+        writer.gauge("geyser_message_cache_size", "Converted text components in the cache.", MessageTranslator.cacheSize());
+
+        CacheStats itemStats = ItemTranslationCache.stats();
+        writer.counter("geyser_item_cache_hits_total", "Items translated from the cache.", itemStats.hitCount());
+        writer.counter("geyser_item_cache_misses_total", "Cacheable items that had to be translated.", itemStats.missCount());
+        writer.counter("geyser_item_cache_evictions_total", "Translated items removed from the cache.", itemStats.evictionCount());
+        writer.gauge("geyser_item_cache_size", "Translated items in the cache.", ItemTranslationCache.size());
+
+        CacheStats commandStats = JavaCommandsTranslator.treeCacheStats();
+        writer.counter("geyser_command_tree_cache_hits_total", "Command graphs translated from the cache.", commandStats.hitCount());
+        writer.counter("geyser_command_tree_cache_misses_total", "Command graphs that had to be translated.", commandStats.missCount());
+        writer.gauge("geyser_command_tree_cache_size", "Translated command graphs in the cache.", JavaCommandsTranslator.treeCacheSize());
+
+        writer.counter("geyser_inventory_full_updates_total", "Containers sent to clients in full.", InventoryContentCache.fullUpdates());
+        writer.counter("geyser_inventory_slot_updates_total", "Changed slots sent in place of a full container.", InventoryContentCache.slotUpdates());
+        writer.counter("geyser_inventory_skipped_slots_total", "Unchanged slots that were not resent.", InventoryContentCache.skippedSlots());
+
+        writer.histogram("geyser_skin_fetch_seconds", "Time taken to load a skin or cape image, from disk or the internet.", SkinProvider.imageLatency());
+        CoalescingHttpClient httpClient = SkinProvider.getHttpClient();
+        writer.histogram("geyser_http_request_seconds", "Time taken by skin and profile HTTP requests.", httpClient.latency());
+        writer.gauge("geyser_http_requests_queued", "Skin and profile HTTP requests waiting to be sent.", httpClient.queuedRequests());
+        writer.gauge("geyser_http_requests_active", "Skin and profile HTTP requests being sent.", httpClient.activeRequests());
+
+        ResourcePackDownloadLimiter downloadLimiter = geyser.getResourcePackDownloadLimiter();
+        if (downloadLimiter != null) {
+            writer.header("geyser_resource_pack_downloads", "gauge", "Players downloading resource packs.");
+            writer.sample("geyser_resource_pack_downloads", "state", "active", downloadLimiter.activeDownloads());
+            writer.sample("geyser_resource_pack_downloads", "state", "waiting", downloadLimiter.waitingDownloads());
+        }
+        writer.counter("geyser_resource_pack_bytes_sent_total", "Resource pack bytes sent.", PackTransferScheduler.bytesSent());
+        writer.counter("geyser_resource_pack_chunks_sent_total", "Resource pack chunks sent.", PackTransferScheduler.chunksSent());
+        writer.counter("geyser_resource_packs_sent_total", "Resource packs that finished sending.", PackTransferScheduler.packsSent());
+        writer.seconds("geyser_resource_pack_transfer_seconds_total", "Time spent sending resource packs that finished sending.", PackTransferScheduler.packTransferNanos());
+
+        writer.counter("geyser_scoreboard_ticks_total", "Session ticks that ran the scoreboard updater.", ScoreboardUpdater.ticks());
+        writer.seconds("geyser_scoreboard_tick_seconds_total", "Time spent by the scoreboard updater.", ScoreboardUpdater.tickNanos());
+        writer.counter("geyser_scoreboard_flushes_total", "Throttled scoreboard updates sent.", ScoreboardUpdater.flushes());
+
+        writer.counter("geyser_entity_movement_updates_total", "Entity movement updates received.", EntityUpdateQueue.movementUpdates());
+        writer.counter("geyser_entity_movement_packets_total", "Entity movement packets sent.", EntityUpdateQueue.movementPackets());
+        writer.counter("geyser_entity_metadata_updates_total", "Entity metadata updates received.", EntityUpdateQueue.metadataUpdates());
+        writer.counter("geyser_entity_metadata_packets_total", "Entity metadata packets sent.", EntityUpdateQueue.metadataPackets());
+        writer.counter("geyser_entity_deferred_updates_total", "Entity updates put off because the entity is far away.", EntityUpdateScheduler.deferredUpdates());
+
+        return writer.toString();
+    }
+
+    private static void writeTraffic(PrometheusWriter writer, String name, String help, long received, long sent) {
+        writer.header(name, "counter", help);
+        writer.sample(name, "direction", "received", received);
+        writer.sample(name, "direction", "sent", sent);
+    }
+
+    private static final class TranslatorStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A small HTTP server that serves {@link GeyserMetrics} at {@code /metrics} for Prometheus to scrape.
+ */
+public final class MetricsServer {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final GeyserImpl geyser;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsServer(GeyserImpl geyser, HttpServer server) {
+        this.geyser = geyser;
+        this.server = server;
+        // Scrapes are rare; one thread is plenty and keeps them from competing with players
+        this.executor = Executors.newSingleThreadExecutor(new DefaultThreadFactory("Geyser metrics", true));
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+    }
+
+    /**
+     * Starts the metrics endpoint if it has been enabled in the config.
+     *
+     * @return the running server, or null if it is disabled or could not be started
+     */
+    public static @Nullable MetricsServer start(GeyserImpl geyser) {
+        int port = geyser.config().advanced().metricsPort();
+        if (port <= 0) {
+            return null;
+        }
+
+        String address = geyser.config().advanced().metricsAddress();
+        try {
+            MetricsServer metricsServer = new MetricsServer(geyser, HttpServer.create(new InetSocketAddress(address, port), 0));
+            metricsServer.server.start();
+            GeyserMetrics.setEnabled(true);
+            geyser.getLogger().info("Serving metrics on http://" + address + ":" + port + "/metrics");
+            return metricsServer;
+        } catch (IOException | RuntimeException | LinkageError e) {
+            // LinkageError: some trimmed down Java runtimes do not ship the jdk.httpserver module
+            geyser.getLogger().error("Could not start the metrics endpoint on " + address + ":" + port, e);
+            return null;
+        }
+    }
+
+    public void stop() {
+        GeyserMetrics.setEnabled(false);
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = GeyserMetrics.write(geyser).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(body);
+            }
+        } catch (RuntimeException e) {
+            geyser.getLogger().error("Error while serving metrics", e);
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+}
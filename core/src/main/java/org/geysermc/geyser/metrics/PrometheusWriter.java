@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.metrics;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.util.LatencyHistogram;
+
+/**
+ * Writes samples in the Prometheus text exposition format.
+ * Every metric must have its header written once before its samples.
+ */
+final class PrometheusWriter {
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+    private static final double MILLIS_PER_SECOND = 1_000D;
+
+    private final StringBuilder builder = new StringBuilder(8192);
+
+    void header(String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    void counter(String name, String help, long value) {
+        header(name, "counter", help);
+        sample(name, null, null, value);
+    }
+
+    void gauge(String name, String help, double value) {
+        header(name, "gauge", help);
+        sample(name, null, null, value);
+    }
+
+    /**
+     * Writes a duration that was measured in nanoseconds as seconds, which is the unit Prometheus expects.
+     */
+    void seconds(String name, String help, long nanos) {
+        header(name, "counter", help);
+        sample(name, null, null, nanos / NANOS_PER_SECOND);
+    }
+
+    void sample(String name, @Nullable String label, @Nullable String labelValue, long value) {
+        labels(name, label, labelValue);
+        builder.append(value).append('\n');
+    }
+
+    void sample(String name, @Nullable String label, @Nullable String labelValue, double value) {
+        labels(name, label, labelValue);
+        builder.append(value).append('\n');
+    }
+
+    void histogram(String name, String help, LatencyHistogram histogram) {
+        header(name, "histogram", help);
+        long[] bounds = histogram.boundsMillis();
+        long[] counts = histogram.cumulativeCounts();
+        for (int i = 0; i < bounds.length; i++) {
+            sample(name + "_bucket", "le", Double.toString(bounds[i] / MILLIS_PER_SECOND), counts[i]);
+        }
+        sample(name + "_bucket", "le", "+Inf", counts[counts.length - 1]);
+        sample(name + "_sum", null, null, histogram.sumNanos() / NANOS_PER_SECOND);
+        sample(name + "_count", null, null, counts[counts.length - 1]);
+    }
+
+    private void labels(String name, @Nullable String label, @Nullable String labelValue) {
+        builder.append(name);
+        if (label != null) {
+            builder.append('{').append(label).append("=\"");
+            for (int i = 0; i < labelValue.length(); i++) {
+                char c = labelValue.charAt(i);
+                switch (c) {
+                    case '\\' -> builder.append("\\\\");
+                    case '"' -> builder.append("\\\"");
+                    case '\n' -> builder.append("\\n");
+                    default -> builder.append(c);
+                }
+            }
+            builder.append("\"}");
+        }
+        builder.append(' ');
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+}
@@ -26,7 +26,6 @@
 package org.geysermc.geyser.network;
 
 import io.netty.channel.Channel;
-import io.netty.channel.DefaultEventLoopGroup;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import lombok.Getter;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -36,6 +35,7 @@ import org.cloudburstmc.protocol.bedrock.BedrockServerSession;
 import org.cloudburstmc.protocol.bedrock.netty.codec.packet.BedrockPacketCodec;
 import org.cloudburstmc.protocol.bedrock.netty.initializer.BedrockServerInitializer;
 import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.metrics.GeyserMetrics;
 import org.geysermc.geyser.session.GeyserSession;
 
 import java.net.InetSocketAddress;
@@ -45,7 +45,7 @@ public class GeyserServerInitializer extends BedrockServerInitializer {
     private final boolean rakCookiesEnabled;
     // There is a constructor that doesn't require inputting threads, but older Netty versions don't have it
     @Getter
-    private final DefaultEventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(0, new DefaultThreadFactory("Geyser player thread"));
+    private final PlayerEventLoopGroup eventLoopGroup = new PlayerEventLoopGroup(0, new DefaultThreadFactory("Geyser player thread"));
 
     public GeyserServerInitializer(GeyserImpl geyser, boolean rakCookiesEnabled) {
         this.geyser = geyser;
@@ -62,6 +62,8 @@ public class GeyserServerInitializer extends BedrockServerInitializer {
 
     @Override
     public void initSession(@NonNull BedrockServerSession bedrockServerSession) {
+        PlayerEventLoopGroup.PlayerEventLoop eventLoop = null;
+        GeyserSession session = null;
         try {
             if (this.geyser.getGeyserServer().getProxiedAddresses() != null) {
                 InetSocketAddress address = this.geyser.getGeyserServer().getProxiedAddresses().get((InetSocketAddress) bedrockServerSession.getSocketAddress());
@@ -71,17 +73,23 @@ public class GeyserServerInitializer extends BedrockServerInitializer {
             }
 
             bedrockServerSession.setLogging(true);
-            GeyserSession session = new GeyserSession(this.geyser, bedrockServerSession, this.eventLoopGroup.next());
+            // Released by the session once it disconnects; split screen sessions share the channel, so it can't be tied to that
+            eventLoop = this.eventLoopGroup.placeSession();
+            session = new GeyserSession(this.geyser, bedrockServerSession, eventLoop);
 
+            Channel channel = bedrockServerSession.getPeer().getChannel();
             if (!bedrockServerSession.isSubClient()) {
-                Channel channel = bedrockServerSession.getPeer().getChannel();
                 channel.pipeline().addAfter(BedrockPacketCodec.NAME, InvalidPacketHandler.NAME, new InvalidPacketHandler(session));
+                GeyserMetrics.trackUpstream(channel);
             }
 
             bedrockServerSession.setPacketHandler(new UpstreamPacketHandler(this.geyser, session));
         } catch (Throwable e) {
             // Error must be caught or it will be swallowed
             this.geyser.getLogger().error("Error occurred while initializing player!", e);
+            if (eventLoop != null && session == null) {
+                eventLoop.sessionClosed();
+            }
             bedrockServerSession.disconnect(e.getMessage());
         }
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UnknownPacket;
+import org.geysermc.geyser.registry.type.ItemMappings;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the large, unchanging packets that every player is sent while spawning, such as creative content and biome
+ * definitions, already serialized for each Bedrock version. When many players join at once, for example after a proxy
+ * restart, each join then only copies the cached bytes to the network.
+ * <p>
+ * These packets only depend on the codec and on the item mappings, which hold any custom items and blocks, and both
+ * are shared by every session on the same version.
+ * <p>
+ * Cached packets are sent as {@link UnknownPacket}s holding the serialized bytes, so anything that looks at outgoing
+ * packets by their type will not see them as, for example, a {@code CreativeContentPacket} or {@code ItemComponentPacket}.
+ */
+public final class LoginPacketCache {
+    private static final Map<Key, EncodedPacket> CACHE = new ConcurrentHashMap<>();
+
+    private LoginPacketCache() {
+    }
+
+    /**
+     * Sends the packet built by the factory, serializing it only if no other session on this version has yet.
+     * The packet must not contain anything specific to the session.
+     */
+    public static <T extends BedrockPacket> void send(GeyserSession session, Class<T> type, Supplier<T> factory) {
+        BedrockCodec codec = session.getUpstream().getSession().getCodec();
+        Key key = new Key(type, codec, session.getItemMappings());
+
+        EncodedPacket encoded = CACHE.get(key);
+        if (encoded == null) {
+            T packet = factory.get();
+            ByteBuf buffer = Unpooled.buffer();
+            try {
+                codec.tryEncode(session.getUpstream().getCodecHelper(), buffer, packet);
+                encoded = new EncodedPacket(codec.getPacketDefinition(type).getId(), ByteBufUtil.getBytes(buffer));
+            } catch (RuntimeException e) {
+                session.getGeyser().getLogger().debug("Unable to cache " + type.getSimpleName() + ": " + e.getMessage());
+                session.sendUpstreamPacket(packet);
+                return;
+            } finally {
+                buffer.release();
+            }
+            CACHE.putIfAbsent(key, encoded);
+        }
+
+        UnknownPacket packet = new UnknownPacket();
+        packet.setPacketId(encoded.packetId());
+        // A fresh wrapper per send, so releasing it after encoding does not affect the cached bytes
+        packet.setPayload(Unpooled.wrappedBuffer(encoded.payload()));
+        session.sendUpstreamPacket(packet);
+    }
+
+    /**
+     * Forgets every serialized packet, as the registries they were built from are replaced on reload.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private record EncodedPacket(int packetId, byte[] payload) {
+    }
+
+    private record Key(Class<?> type, BedrockCodec codec, ItemMappings itemMappings) {
+        // The codec and mappings are shared by every session on the same version, so they are compared by identity
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Key other
+                && type == other.type
+                && codec == other.codec
+                && itemMappings == other.itemMappings;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type.hashCode();
+            result = 31 * result + System.identityHashCode(codec);
+            result = 31 * result + System.identityHashCode(itemMappings);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The event loops that sessions run on. New sessions are placed on the loop with the least load, measured by how much
+ * of its time it recently spent running tasks and how many tasks are waiting, instead of round-robin.
+ * <p>
+ * Sessions can't move between loops afterwards, as their Java connection is registered to the same loop.
+ */
+public final class PlayerEventLoopGroup extends DefaultEventLoopGroup {
+    /**
+     * How long busy time is measured for, before it becomes the loop's utilisation
+     */
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /**
+     * A thousand waiting tasks count as much as a fully busy loop
+     */
+    private static final double PENDING_TASK_WEIGHT = 0.001;
+    /**
+     * Sessions placed during the current window have not shown up in the utilisation yet, and logging in
+     * (chunks, registries, resource packs) is the most expensive part of a session.
+     */
+    private static final double NEW_SESSION_WEIGHT = 0.02;
+
+    private final List<PlayerEventLoop> loops;
+
+    public PlayerEventLoopGroup(int threads, ThreadFactory threadFactory) {
+        super(threads, threadFactory);
+        List<PlayerEventLoop> loops = new ArrayList<>(executorCount());
+        for (EventExecutor executor : this) {
+            loops.add((PlayerEventLoop) executor);
+        }
+        this.loops = List.copyOf(loops);
+    }
+
+    @Override
+    protected EventLoop newChild(Executor executor, Object... args) {
+        return new PlayerEventLoop(this, executor);
+    }
+
+    /**
+     * Picks the loop for a new session. {@link PlayerEventLoop#sessionClosed()} must be called once the session is gone.
+     */
+    public PlayerEventLoop placeSession() {
+        PlayerEventLoop best = null;
+        double bestLoad = Double.MAX_VALUE;
+        for (PlayerEventLoop loop : loops) {
+            double load = loop.load();
+            if (load < bestLoad || (load == bestLoad && loop.sessions() < best.sessions())) {
+                best = loop;
+                bestLoad = load;
+            }
+        }
+        best.sessionPlaced();
+        return best;
+    }
+
+    public List<PlayerEventLoop> loops() {
+        return loops;
+    }
+
+    public static final class PlayerEventLoop extends DefaultEventLoop {
+        private final AtomicInteger sessions = new AtomicInteger();
+        private final AtomicInteger newSessions = new AtomicInteger();
+
+        // Only written by the loop's own thread
+        private long windowStart = System.nanoTime();
+        private long windowBusyNanos;
+        private volatile long lastWindowEnd = windowStart;
+        private volatile double utilisation;
+
+        PlayerEventLoop(PlayerEventLoopGroup parent, Executor executor) {
+            super(parent, executor);
+        }
+
+        @Override
+        protected void run() {
+            for (;;) {
+                Runnable task = takeTask();
+                if (task != null) {
+                    long start = System.nanoTime();
+                    runTask(task);
+                    updateLastExecutionTime();
+                    long end = System.nanoTime();
+                    windowBusyNanos += end - start;
+                    if (end - windowStart >= WINDOW_NANOS) {
+                        utilisation = Math.min(1, (double) windowBusyNanos / (end - windowStart));
+                        windowStart = end;
+                        windowBusyNanos = 0;
+                        lastWindowEnd = end;
+                        newSessions.set(0);
+                    }
+                }
+
+                if (confirmShutdown()) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * @return the share of time, from 0 to 1, this loop spent running tasks in the last second or so
+         */
+        public double utilisation() {
+            // A loop without any sessions might not run a task for a while, so its last window would never end
+            if (System.nanoTime() - lastWindowEnd > 2 * WINDOW_NANOS) {
+                return 0;
+            }
+            return utilisation;
+        }
+
+        public int sessions() {
+            return sessions.get();
+        }
+
+        double load() {
+            return utilisation() + pendingTasks() * PENDING_TASK_WEIGHT + newSessions.get() * NEW_SESSION_WEIGHT;
+        }
+
+        void sessionPlaced() {
+            sessions.incrementAndGet();
+            newSessions.incrementAndGet();
+        }
+
+        public void sessionClosed() {
+            sessions.decrementAndGet();
+        }
+    }
+}
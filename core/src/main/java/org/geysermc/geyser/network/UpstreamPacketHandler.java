@@ -25,8 +25,12 @@
 
 package org.geysermc.geyser.network;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import org.cloudburstmc.math.vector.Vector2f;
+import org.cloudburstmc.netty.channel.raknet.RakChildChannel;
+import org.cloudburstmc.netty.handler.codec.raknet.common.RakSessionCodec;
 import org.cloudburstmc.protocol.bedrock.BedrockDisconnectReasons;
 import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
 import org.cloudburstmc.protocol.bedrock.codec.compat.BedrockCompat;
@@ -62,7 +66,10 @@ import org.geysermc.geyser.api.pack.ResourcePackManifest;
 import org.geysermc.geyser.api.pack.option.ResourcePackOption;
 import org.geysermc.geyser.event.type.SessionLoadResourcePacksEventImpl;
 import org.geysermc.geyser.pack.GeyserResourcePack;
+import org.geysermc.geyser.pack.PackTransferScheduler;
+import org.geysermc.geyser.pack.ResourcePackDownloadLimiter;
 import org.geysermc.geyser.pack.ResourcePackHolder;
+import org.geysermc.geyser.pack.path.GeyserPathPackCodec;
 import org.geysermc.geyser.pack.url.GeyserUrlPackCodec;
 import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.Registries;
@@ -79,10 +86,11 @@ import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.OptionalInt;
 import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
 public class UpstreamPacketHandler extends LoggingPacketHandler {
@@ -93,10 +101,25 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
     private final Deque<String> packsToSend = new ArrayDeque<>();
     private final CompressionStrategy compressionStrategy;
     // Avoid overloading consoles when downloading larger resource packs
-    private static final int PACKET_SEND_DELAY = 4 * 50;
-    private final Queue<ResourcePackChunkRequestPacket> chunkRequestQueue = new ConcurrentLinkedQueue<>();
+    // The chunk queue and everything pacing it is only touched on the session's event loop
+    private final Queue<ResourcePackChunkRequestPacket> chunkRequestQueue = new ArrayDeque<>();
     private boolean currentlySendingChunks = false;
+    private PackTransferScheduler packTransferScheduler;
+    /**
+     * When each pack that is still downloading was announced to the client.
+     */
+    private final Map<UUID, Long> packTransferStarts = new HashMap<>();
+    /**
+     * The pack whose chunks triggered announcing the next pack in {@link #packsToSend}.
+     */
+    private UUID announcedNextPackFor;
     private SessionLoadResourcePacksEventImpl resourcePackLoadEvent;
+    /**
+     * The limiter this session holds (or is waiting for) a download slot from. The slot is only acquired and released on the event loop.
+     */
+    private ResourcePackDownloadLimiter downloadLimiter;
+    private Runnable pendingDownload;
+    private boolean holdingDownloadSlot;
 
     public UpstreamPacketHandler(GeyserImpl geyser, GeyserSession session) {
         super(geyser, session);
@@ -158,6 +181,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
             this.session.getUpstream().getSession().setDisconnectReason(GeyserLocale.getLocaleStringLog("geyser.network.disconnect.timed_out"));
         }
         this.session.disconnect(this.session.getUpstream().getSession().getDisconnectReason().toString());
+        session.ensureInEventLoop(this::releaseDownloadSlot);
     }
 
     @Override
@@ -267,6 +291,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         switch (packet.getStatus()) {
             case COMPLETED -> {
                 finishedResourcePackSending = true;
+                session.ensureInEventLoop(this::releaseDownloadSlot);
                 if (geyser.config().java().authType() != AuthType.ONLINE) {
                     session.authenticate(session.getAuthData().name());
                 } else if (!couldLoginUserByName(session.getAuthData().name())) {
@@ -279,12 +304,15 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
             case SEND_PACKS -> {
                 // Bedrock clients can send empty "send_packs" responses, in which case we shouldn't send anything back
                 if (!packet.getPackIds().isEmpty()) {
-                    packsToSend.addAll(packet.getPackIds());
-                    sendPackDataInfo(packsToSend.pop());
+                    session.ensureInEventLoop(() -> {
+                        packsToSend.addAll(packet.getPackIds());
+                        startPackDownload();
+                    });
                     return PacketSignal.HANDLED;
                 }
             }
             case HAVE_ALL_PACKS -> {
+                session.ensureInEventLoop(this::releaseDownloadSlot);
                 ResourcePackStackPacket stackPacket = new ResourcePackStackPacket();
                 stackPacket.setExperimentsPreviouslyToggled(false);
                 stackPacket.setForcedToAccept(false); // Leaving this as false allows the player to choose to download or not
@@ -350,34 +378,47 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
             return PacketSignal.HANDLED;
         }
 
-        // Resolve some console pack downloading issues.
-        // See <https://github.com/PowerNukkitX/PowerNukkitX/pull/1997> for reference
-        chunkRequestQueue.add(packet);
-        if (isConsole()) {
+        session.ensureInEventLoop(() -> {
+            chunkRequestQueue.add(packet);
             if (!currentlySendingChunks) {
                 currentlySendingChunks = true;
                 processNextChunk();
             }
-        } else {
-            processNextChunk();
-        }
+        });
         return PacketSignal.HANDLED;
     }
 
-    public void processNextChunk() {
-        ResourcePackChunkRequestPacket packet = chunkRequestQueue.poll();
-        if (packet == null || session.isClosed()) {
-            currentlySendingChunks = false;
-            return;
+    private void processNextChunk() {
+        if (packTransferScheduler == null) {
+            // Resolve some console pack downloading issues.
+            // See <https://github.com/PowerNukkitX/PowerNukkitX/pull/1997> for reference
+            packTransferScheduler = new PackTransferScheduler(isConsole());
         }
 
+        while (!chunkRequestQueue.isEmpty() && !session.isClosed()) {
+            long delay = packTransferScheduler.delayNanos();
+            if (delay > 0) {
+                session.scheduleInEventLoop(this::processNextChunk, delay, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if (!sendChunk(chunkRequestQueue.poll())) {
+                break;
+            }
+        }
+        currentlySendingChunks = false;
+    }
+
+    /**
+     * @return false if sending failed, and the session has been disconnected
+     */
+    private boolean sendChunk(ResourcePackChunkRequestPacket packet) {
         ResourcePackHolder holder = this.resourcePackLoadEvent.getPacks().get(packet.getPackId());
         if (holder == null) {
             GeyserImpl.getInstance().getLogger().debug("Client {0} tried to request pack id {1} not sent to it!",
                 session.bedrockUsername(), packet.getPackId());
             chunkRequestQueue.clear();
             session.disconnect("disconnectionScreen.resourcePack");
-            return;
+            return false;
         }
 
         PackCodec codec = holder.codec();
@@ -387,13 +428,13 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
             if (!resourcePackLoadEvent.value(holder.uuid(), ResourcePackOption.Type.FALLBACK, true)) {
                 session.disconnect("Unable to provide downloaded resource pack. Contact an administrator!");
                 chunkRequestQueue.clear();
-                return;
+                return false;
             }
         } else if (finishedResourcePackSending) {
             GeyserImpl.getInstance().getLogger().warning("Received resource pack chunk packet after stage completed! " + packet);
             session.disconnect("Duplicate resource pack packet received!");
             chunkRequestQueue.clear();
-            return;
+            return false;
         }
 
         ResourcePackChunkDataPacket data = new ResourcePackChunkDataPacket();
@@ -404,31 +445,127 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
 
         int offset = packet.getChunkIndex() * GeyserResourcePack.CHUNK_SIZE;
         long remainingSize = codec.size() - offset;
-        byte[] packData = new byte[(int) MathUtils.constrain(remainingSize, 0, GeyserResourcePack.CHUNK_SIZE)];
+        int length = (int) MathUtils.constrain(remainingSize, 0, GeyserResourcePack.CHUNK_SIZE);
 
-        try (SeekableByteChannel channel = codec.serialize()) {
-            channel.position(offset);
-            channel.read(ByteBuffer.wrap(packData, 0, packData.length));
+        ByteBuf packData;
+        try {
+            packData = readPackChunk(codec, offset, length);
         } catch (IOException e) {
             session.disconnect("disconnectionScreen.resourcePack");
             e.printStackTrace();
+            return false;
         }
 
-        data.setData(Unpooled.wrappedBuffer(packData));
+        data.setData(packData);
 
         if (isConsole()) {
             // Also flushes packets
             // Avoids bursting slower / delayed clients
             session.sendUpstreamPacketImmediately(data);
-            session.scheduleInEventLoop(this::processNextChunk, PACKET_SEND_DELAY, TimeUnit.MILLISECONDS);
         } else {
             session.sendUpstreamPacket(data);
         }
+        packTransferScheduler.onChunkSent(length, rtt());
+
+        if (remainingSize <= GeyserResourcePack.CHUNK_SIZE) {
+            Long start = packTransferStarts.remove(packet.getPackId());
+            if (start != null) {
+                long transferNanos = System.nanoTime() - start;
+                PackTransferScheduler.onPackSent(transferNanos);
+                GeyserImpl.getInstance().getLogger().debug("Sent pack {0} to {1} in {2}ms ({3} KB/s)", packet.getPackId(), session.bedrockUsername(),
+                    TimeUnit.NANOSECONDS.toMillis(transferNanos), codec.size() * 1_000_000L / Math.max(1, transferNanos));
+            }
+        }
+
+        // Announce the next pack in the queue once the client has (almost) everything of this one
+        int remainingChunks = (int) Math.ceil((remainingSize - length) / (double) GeyserResourcePack.CHUNK_SIZE);
+        if (!packsToSend.isEmpty() && !packet.getPackId().equals(announcedNextPackFor)
+                && packTransferScheduler.shouldAnnounceNextPack(remainingChunks)) {
+            announcedNextPackFor = packet.getPackId();
+            sendPackDataInfo(packsToSend.pop());
+        }
+        return true;
+    }
+
+    /**
+     * @return the RakNet round trip time of this connection in milliseconds, or 0 if it is not known
+     */
+    private double rtt() {
+        if (session.getUpstream().isClosed() || !(session.getUpstream().getSession().getPeer().getChannel() instanceof RakChildChannel channel)) {
+            return 0;
+        }
+        RakSessionCodec rakSessionCodec = channel.rakPipeline().get(RakSessionCodec.class);
+        return rakSessionCodec == null ? 0 : rakSessionCodec.getPing();
+    }
+
 
-        // Check if it is the last chunk and send next pack in queue when available.
-        if (remainingSize <= GeyserResourcePack.CHUNK_SIZE && !packsToSend.isEmpty()) {
+    private void startPackDownload() {
+        if (holdingDownloadSlot) {
             sendPackDataInfo(packsToSend.pop());
+            return;
+        }
+        if (pendingDownload != null) {
+            // The packs will be sent once it's our turn
+            return;
+        }
+
+        downloadLimiter = geyser.getResourcePackDownloadLimiter();
+        Runnable onAcquired = () -> session.ensureInEventLoop(() -> {
+            pendingDownload = null;
+            holdingDownloadSlot = true;
+            if (session.isClosed()) {
+                releaseDownloadSlot();
+            } else if (!packsToSend.isEmpty()) {
+                sendPackDataInfo(packsToSend.pop());
+            }
+        });
+        pendingDownload = onAcquired;
+        downloadLimiter.acquire(onAcquired);
+    }
+
+    private void releaseDownloadSlot() {
+        if (pendingDownload != null) {
+            // If this fails, the slot was already handed to us and will be released once the callback sees the closed session
+            if (downloadLimiter.cancel(pendingDownload)) {
+                pendingDownload = null;
+            }
+            return;
+        }
+        if (holdingDownloadSlot) {
+            holdingDownloadSlot = false;
+            downloadLimiter.release();
+        }
+    }
+
+    private static ByteBuf readPackChunk(PackCodec codec, int offset, int length) throws IOException {
+        if (length == 0) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+
+        if (codec instanceof GeyserPathPackCodec pathPackCodec) {
+            // Every session downloading this pack is served from the same mapping
+            ByteBuf content = pathPackCodec.content();
+            if (content != null) {
+                return content.slice(offset, length);
+            }
+        }
+
+        // Read straight into a pooled buffer; the packet releases it once the codec has written it
+        ByteBuf packData = ByteBufAllocator.DEFAULT.ioBuffer(length);
+        try (SeekableByteChannel channel = codec.serialize()) {
+            channel.position(offset);
+            ByteBuffer target = packData.nioBuffer(0, length);
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    break;
+                }
+            }
+            packData.writerIndex(target.position());
+        } catch (IOException e) {
+            packData.release();
+            throw e;
         }
+        return packData;
     }
 
     private void sendPackDataInfo(String id) {
@@ -465,6 +602,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         ResourcePackManifest.Header header = pack.manifest().header();
 
         data.setPackId(header.uuid());
+        packTransferStarts.put(header.uuid(), System.nanoTime());
         int chunkCount = (int) Math.ceil(codec.size() / (double) GeyserResourcePack.CHUNK_SIZE);
         data.setChunkCount(chunkCount);
         data.setCompressedPackSize(codec.size());
@@ -47,12 +47,14 @@ import org.cloudburstmc.netty.handler.codec.raknet.server.RakServerRateLimiter;
 import org.cloudburstmc.protocol.bedrock.BedrockPong;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.event.connection.ConnectionRequestEvent;
+import org.geysermc.geyser.api.event.connection.GeyserBedrockPingEvent;
 import org.geysermc.geyser.command.defaults.ConnectionTestCommand;
 import org.geysermc.geyser.configuration.GeyserConfig;
 import org.geysermc.geyser.event.type.GeyserBedrockPingEventImpl;
 import org.geysermc.geyser.network.CIDRMatcher;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.network.GeyserServerInitializer;
+import org.geysermc.geyser.network.PlayerEventLoopGroup;
 import org.geysermc.geyser.network.netty.handler.RakConnectionRequestHandler;
 import org.geysermc.geyser.network.netty.handler.RakGeyserRateLimiter;
 import org.geysermc.geyser.network.netty.handler.RakPingHandler;
@@ -105,7 +107,8 @@ public final class GeyserServer {
     // Split childGroup may improve IO
     private EventLoopGroup childGroup;
     private final ServerBootstrap bootstrap;
-    private EventLoopGroup playerGroup;
+    @Getter
+    private PlayerEventLoopGroup playerGroup;
 
     @Getter
     private final ExpiringMap<InetSocketAddress, InetSocketAddress> proxiedAddresses;
@@ -296,19 +299,7 @@ public final class GeyserServer {
     }
 
     public BedrockPong onQuery(Channel channel, InetSocketAddress inetSocketAddress) {
-        if (geyser.config().debugMode() && PRINT_DEBUG_PINGS) {
-            String ip;
-            if (geyser.config().logPlayerIpAddresses()) {
-                if (this.proxiedAddresses != null) {
-                    ip = this.proxiedAddresses.getOrDefault(inetSocketAddress, inetSocketAddress).toString();
-                } else {
-                    ip = inetSocketAddress.toString();
-                }
-            } else {
-                ip = "<IP address withheld>";
-            }
-            geyser.getLogger().debug(GeyserLocale.getLocaleStringLog("geyser.network.pinged", ip));
-        }
+        logPing(inetSocketAddress);
 
         GeyserConfig config = geyser.config();
 
@@ -399,6 +390,40 @@ public final class GeyserServer {
         return pong;
     }
 
+    public void logPing(InetSocketAddress inetSocketAddress) {
+        if (geyser.config().debugMode() && PRINT_DEBUG_PINGS) {
+            String ip;
+            if (geyser.config().logPlayerIpAddresses()) {
+                if (this.proxiedAddresses != null) {
+                    ip = this.proxiedAddresses.getOrDefault(inetSocketAddress, inetSocketAddress).toString();
+                } else {
+                    ip = inetSocketAddress.toString();
+                }
+            } else {
+                ip = "<IP address withheld>";
+            }
+            geyser.getLogger().debug(GeyserLocale.getLocaleStringLog("geyser.network.pinged", ip));
+        }
+    }
+
+    /**
+     * A pong can only be shared between pings if nothing needs to see (or modify the response for) each individual ping.
+     *
+     * @return whether the result of {@link #onQuery(Channel, InetSocketAddress)} may be reused for other addresses
+     */
+    public boolean isPongCacheable() {
+        return geyser.eventBus().subscribers(GeyserBedrockPingEvent.class).isEmpty();
+    }
+
+    /**
+     * @return a value that changes whenever a cached pong should be rebuilt before its refresh interval is up
+     */
+    public int pongCacheKey() {
+        int key = geyser.getSessionManager().getSessions().size();
+        key = 31 * key + System.identityHashCode(geyser.config());
+        return 31 * key + System.identityHashCode(ConnectionTestCommand.CONNECTION_TEST_MOTD);
+    }
+
     private List<CIDRMatcher> whitelistedIPsMatchers = null;
 
     /**
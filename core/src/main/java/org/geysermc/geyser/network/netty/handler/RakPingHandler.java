@@ -25,7 +25,9 @@
 
 package org.geysermc.geyser.network.netty.handler;
 
-import io.netty.channel.ChannelHandler;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import lombok.RequiredArgsConstructor;
@@ -34,18 +36,56 @@ import org.cloudburstmc.netty.channel.raknet.RakPong;
 import org.cloudburstmc.netty.channel.raknet.config.RakChannelOption;
 import org.geysermc.geyser.network.netty.GeyserServer;
 
-@ChannelHandler.Sharable
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answers unconnected pings. One instance is added to each bound channel, so the cached pong is only ever
+ * touched from that channel's event loop.
+ */
 @RequiredArgsConstructor
 public class RakPingHandler extends SimpleChannelInboundHandler<RakPing> {
     public static final String NAME = "rak-ping-handler";
 
+    /**
+     * How long a serialized pong is served before the MOTD and player counts are fetched again.
+     */
+    private static final long PONG_REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong("Geyser.PongCacheMillis", 1000));
+
     private final GeyserServer server;
 
+    private ByteBuf cachedPong;
+    private long cachedPongTime;
+    private int cachedPongKey;
+
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, RakPing msg) {
         long guid = ctx.channel().config().getOption(RakChannelOption.RAK_GUID);
 
-        RakPong pong = msg.reply(guid, this.server.onQuery(ctx.channel(), msg.getSender()).toByteBuf());
+        RakPong pong = msg.reply(guid, pongPayload(ctx, msg));
         ctx.writeAndFlush(pong);
     }
+
+    private ByteBuf pongPayload(ChannelHandlerContext ctx, RakPing msg) {
+        if (PONG_REFRESH_NANOS <= 0 || !this.server.isPongCacheable()) {
+            this.cachedPong = null;
+            return this.server.onQuery(ctx.channel(), msg.getSender()).toByteBuf();
+        }
+
+        long now = System.nanoTime();
+        int key = this.server.pongCacheKey();
+        if (this.cachedPong == null || key != this.cachedPongKey || now - this.cachedPongTime >= PONG_REFRESH_NANOS) {
+            ByteBuf pong = this.server.onQuery(ctx.channel(), msg.getSender()).toByteBuf();
+            try {
+                // Unreleasable so every ping can write the same bytes; the pong encoder only ever releases its view
+                this.cachedPong = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(ByteBufUtil.getBytes(pong)));
+            } finally {
+                pong.release();
+            }
+            this.cachedPongTime = now;
+            this.cachedPongKey = key;
+        } else {
+            this.server.logPing(msg.getSender());
+        }
+        return this.cachedPong.duplicate();
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.pack;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Paces the resource pack chunks sent to one client. Chunks are spread over the connection's round trip time,
+ * sending more per round trip while it stays close to the lowest seen, and backing off once it grows (which
+ * means data is queueing somewhere on the link).
+ * <p>
+ * Console clients keep a fixed delay between chunks, as they can fail to download packs that are sent quickly.
+ */
+public final class PackTransferScheduler {
+    private static final long CONSOLE_CHUNK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final int INITIAL_WINDOW = 4;
+    private static final int MAX_WINDOW = 16;
+    /**
+     * How far the round trip time can rise above the lowest seen before it's considered congested.
+     */
+    private static final double CONGESTION_RTT_FACTOR = 2;
+    private static final double CONGESTION_RTT_MARGIN_MILLIS = 20;
+
+    private static final LongAdder BYTES_SENT = new LongAdder();
+    private static final LongAdder CHUNKS_SENT = new LongAdder();
+    private static final LongAdder PACKS_SENT = new LongAdder();
+    private static final LongAdder PACK_TRANSFER_NANOS = new LongAdder();
+
+    private final boolean console;
+    /**
+     * The amount of chunks sent per round trip.
+     */
+    private int window = INITIAL_WINDOW;
+    private double minRtt = Double.MAX_VALUE;
+    private long nextSendTime;
+    private long lastBackoff;
+
+    public PackTransferScheduler(boolean console) {
+        this.console = console;
+    }
+
+    /**
+     * @return how long to wait, in nanoseconds, before the next chunk can be sent
+     */
+    public long delayNanos() {
+        return nextSendTime - System.nanoTime();
+    }
+
+    /**
+     * @param rttMillis the current round trip time of the connection, or 0 if it is not known
+     */
+    public void onChunkSent(int bytes, double rttMillis) {
+        BYTES_SENT.add(bytes);
+        CHUNKS_SENT.increment();
+
+        long now = System.nanoTime();
+        if (console) {
+            nextSendTime = now + CONSOLE_CHUNK_INTERVAL;
+            return;
+        }
+        if (rttMillis <= 0) {
+            // Nothing to pace against yet
+            return;
+        }
+
+        long rttNanos = (long) (rttMillis * 1_000_000);
+        minRtt = Math.min(minRtt, rttMillis);
+        if (rttMillis > minRtt * CONGESTION_RTT_FACTOR + CONGESTION_RTT_MARGIN_MILLIS) {
+            // Only back off once per round trip, as the chunks already in flight were sent before the last backoff
+            if (now - lastBackoff >= rttNanos) {
+                window = Math.max(1, window / 2);
+                lastBackoff = now;
+            }
+        } else if (window < MAX_WINDOW) {
+            window++;
+        }
+        nextSendTime = now + rttNanos / window;
+    }
+
+    /**
+     * The next pack can be announced while the current one is still downloading, so the client can request
+     * its chunks as soon as the current pack's are out.
+     *
+     * @param remainingChunks the chunks of the current pack that have not yet been sent
+     * @return whether the next pack should be announced now
+     */
+    public boolean shouldAnnounceNextPack(int remainingChunks) {
+        if (console) {
+            return remainingChunks <= 0;
+        }
+        return remainingChunks <= window;
+    }
+
+    /**
+     * Records a pack that finished sending.
+     */
+    public static void onPackSent(long transferNanos) {
+        PACKS_SENT.increment();
+        PACK_TRANSFER_NANOS.add(transferNanos);
+    }
+
+    public static long bytesSent() {
+        return BYTES_SENT.sum();
+    }
+
+    public static long chunksSent() {
+        return CHUNKS_SENT.sum();
+    }
+
+    public static long packsSent() {
+        return PACKS_SENT.sum();
+    }
+
+    /**
+     * @return the total time spent sending packs that have finished sending, in nanoseconds
+     */
+    public static long packTransferNanos() {
+        return PACK_TRANSFER_NANOS.sum();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.pack;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Limits how many sessions download resource packs from this Geyser instance at once. Sessions over the limit
+ * wait for a slot, rather than every reconnecting player pulling packs at the same time.
+ */
+public final class ResourcePackDownloadLimiter {
+    /**
+     * The amount of concurrent downloads, or 0 if downloads are unlimited.
+     */
+    private final int limit;
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int active;
+
+    public ResourcePackDownloadLimiter(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Runs the callback once a download slot is available - immediately, if there is one free. The caller
+     * must {@link #release()} the slot once it's done.
+     */
+    public void acquire(Runnable onAcquired) {
+        synchronized (this) {
+            if (limit > 0 && active >= limit) {
+                waiting.add(onAcquired);
+                return;
+            }
+            active++;
+        }
+        onAcquired.run();
+    }
+
+    /**
+     * Removes a callback that has not yet been given a slot.
+     *
+     * @return false if the callback already has a slot, and so must release it
+     */
+    public synchronized boolean cancel(Runnable onAcquired) {
+        return waiting.remove(onAcquired);
+    }
+
+    public void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        // Hand the slot straight to the next session in line
+        next.run();
+    }
+
+    public synchronized int activeDownloads() {
+        return active;
+    }
+
+    public synchronized int waitingDownloads() {
+        return waiting.size();
+    }
+}
@@ -26,7 +26,6 @@
 package org.geysermc.geyser.pack;
 
 import it.unimi.dsi.fastutil.Pair;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.Constants;
 import org.geysermc.geyser.GeyserImpl;
@@ -35,9 +34,9 @@ import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.registry.type.CustomSkull;
 import org.geysermc.geyser.skin.SkinProvider;
 import org.geysermc.geyser.util.FileUtils;
+import org.geysermc.geyser.util.ImageUtils;
 
 import javax.imageio.ImageIO;
-import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.nio.ByteBuffer;
@@ -51,6 +50,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
@@ -63,7 +65,8 @@ public class SkullResourcePackManager {
 
     private static final Path SKULL_SKIN_CACHE_PATH = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("player_skulls");
 
-    public static final Map<String, Path> SKULL_SKINS = new Object2ObjectOpenHashMap<>();
+    // Filled in from the skin download threads
+    public static final Map<String, Path> SKULL_SKINS = new ConcurrentHashMap<>();
 
     @SuppressWarnings("ResultOfMethodCallIgnored")
     public static @Nullable Path createResourcePack() {
@@ -104,37 +107,61 @@ public class SkullResourcePackManager {
         return null;
     }
 
-    public static void cacheSkullSkin(String skinHash) throws IOException {
+    /**
+     * Downloads the skin of a skull, unless it has already been cached.
+     *
+     * @return a future that completes once the skull texture has been written, or fails with an {@link IOException}
+     */
+    public static CompletableFuture<Void> cacheSkullSkin(String skinHash) {
         String skinUrl = Constants.MINECRAFT_SKIN_SERVER_URL + skinHash;
-        Path skinPath = SKULL_SKINS.get(skinHash);
-        if (skinPath != null) {
-            return;
+        if (SKULL_SKINS.containsKey(skinHash)) {
+            return CompletableFuture.completedFuture(null);
         }
 
-        Files.createDirectories(SKULL_SKIN_CACHE_PATH);
-        skinPath = SKULL_SKIN_CACHE_PATH.resolve(skinHash + ".png");
+        Path skinPath = SKULL_SKIN_CACHE_PATH.resolve(skinHash + ".png");
+        try {
+            Files.createDirectories(SKULL_SKIN_CACHE_PATH);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
         if (Files.exists(skinPath)) {
             SKULL_SKINS.put(skinHash, skinPath);
-            return;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return SkinProvider.requestImage(skinUrl, false).thenAccept(image -> {
+            try {
+                writeSkullTexture(skinHash, skinPath, image);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private static void writeSkullTexture(String skinHash, Path skinPath, BufferedImage image) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] skin = ImageUtils.toArgb(image);
+        if (width < 64 || height < 16) {
+            skin = ImageUtils.pad(skin, width, height, Math.max(width, 64), Math.max(height, 16), null);
+            width = Math.max(width, 64);
         }
+        image.flush();
 
-        BufferedImage image = SkinProvider.requestImage(skinUrl, false);
         // Resize skins to 48x16 to save on space and memory
-        BufferedImage skullTexture = new BufferedImage(48, 16, image.getType());
+        int[] skull = new int[48 * 16];
         // Reorder skin parts to fit into the space
         // Right, Front, Left, Back, Top, Bottom - head
         // Right, Front, Left, Back, Top, Bottom - hat
-        Graphics g = skullTexture.createGraphics();
         // Right, Front, Left, Back of the head
-        g.drawImage(image, 0, 0, 32, 8, 0, 8, 32, 16, null);
+        ImageUtils.copyRegion(skin, width, 0, 8, skull, 48, 0, 0, 32, 8);
         // Right, Front, Left, Back of the hat
-        g.drawImage(image, 0, 8, 32, 16, 32, 8, 64, 16, null);
+        ImageUtils.copyRegion(skin, width, 32, 8, skull, 48, 0, 8, 32, 8);
         // Top and bottom of the head
-        g.drawImage(image, 32, 0, 48, 8, 8, 0, 24, 8, null);
+        ImageUtils.copyRegion(skin, width, 8, 0, skull, 48, 32, 0, 16, 8);
         // Top and bottom of the hat
-        g.drawImage(image, 32, 8, 48, 16, 40, 0, 56, 8, null);
-        g.dispose();
-        image.flush();
+        ImageUtils.copyRegion(skin, width, 40, 0, skull, 48, 32, 8, 16, 8);
+        BufferedImage skullTexture = ImageUtils.fromArgb(skull, 48, 16);
 
         ImageIO.write(skullTexture, "png", skinPath.toFile());
         SKULL_SKINS.put(skinHash, skinPath);
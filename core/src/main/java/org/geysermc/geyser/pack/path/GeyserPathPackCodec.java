@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.pack.path;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
@@ -39,14 +41,23 @@ import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 public class GeyserPathPackCodec extends PathPackCodec {
+    /**
+     * Packs are read for every chunk a client downloads, so only check the file for changes this often.
+     */
+    private static final long LAST_MODIFIED_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
     private final Path path;
-    private FileTime lastModified;
+    // Every session thread reads these, so changes must be visible to all of them
+    private volatile FileTime lastModified;
+    private volatile long lastModifiedCheck;
 
-    private byte[] sha256;
-    private long size = -1;
+    private volatile byte[] sha256;
+    private volatile long size = -1;
+    private volatile ByteBuf content;
 
     @Override
     public @NonNull Path path() {
@@ -57,8 +68,9 @@ public class GeyserPathPackCodec extends PathPackCodec {
     @Override
     public byte @NonNull [] sha256() {
         this.checkLastModified();
-        if (this.sha256 != null) {
-            return this.sha256;
+        byte[] sha256 = this.sha256;
+        if (sha256 != null) {
+            return sha256;
         }
 
         return this.sha256 = FileUtils.calculateSHA256(this.path);
@@ -67,8 +79,9 @@ public class GeyserPathPackCodec extends PathPackCodec {
     @Override
     public long size() {
         this.checkLastModified();
-        if (this.size != -1) {
-            return this.size;
+        long size = this.size;
+        if (size != -1) {
+            return size;
         }
 
         try {
@@ -83,6 +96,32 @@ public class GeyserPathPackCodec extends PathPackCodec {
         return FileChannel.open(this.path);
     }
 
+    /**
+     * The whole pack, memory-mapped once and shared between every session downloading it.
+     * Slices of the buffer never need to be released.
+     *
+     * @return the pack contents, or null if the pack is too large to map as one buffer
+     */
+    public ByteBuf content() throws IOException {
+        this.checkLastModified();
+        ByteBuf content = this.content;
+        if (content == null) {
+            synchronized (this) {
+                content = this.content;
+                if (content == null) {
+                    if (size() > Integer.MAX_VALUE) {
+                        return null;
+                    }
+                    try (FileChannel channel = FileChannel.open(this.path)) {
+                        content = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())));
+                    }
+                    this.content = content;
+                }
+            }
+        }
+        return content;
+    }
+
     @Override
     protected ResourcePack.@NonNull Builder createBuilder() {
         return ResourcePackLoader.readPack(this.path);
@@ -94,6 +133,12 @@ public class GeyserPathPackCodec extends PathPackCodec {
     }
 
     private void checkLastModified() {
+        long now = System.nanoTime();
+        if (this.lastModified != null && now - this.lastModifiedCheck < LAST_MODIFIED_CHECK_INTERVAL) {
+            return;
+        }
+        this.lastModifiedCheck = now;
+
         try {
             FileTime lastModified = Files.getLastModifiedTime(this.path);
             if (this.lastModified == null) {
@@ -106,6 +151,7 @@ public class GeyserPathPackCodec extends PathPackCodec {
                 this.lastModified = lastModified;
                 this.sha256 = null;
                 this.size = -1;
+                this.content = null;
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -33,6 +33,7 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.Clien
 import io.netty.channel.EventLoop;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.erosion.ErosionCancellationException;
+import org.geysermc.geyser.metrics.GeyserMetrics;
 import org.geysermc.geyser.registry.loader.RegistryLoaders;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
@@ -88,6 +89,8 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
             return;
         }
 
+        boolean timed = GeyserMetrics.isEnabled();
+        long start = timed ? System.nanoTime() : 0L;
         try {
             translator.translate(session, packet);
         } catch (ErosionCancellationException ex) {
@@ -96,6 +99,9 @@ public class PacketTranslatorRegistry<T> extends AbstractMappedRegistry<Class<?
             GeyserImpl.getInstance().getLogger().error(GeyserLocale.getLocaleStringLog("geyser.network.translator.packet.failed", packet.getClass().getSimpleName()), ex);
             ex.printStackTrace();
         }
+        if (timed) {
+            GeyserMetrics.recordTranslation(translator, System.nanoTime() - start);
+        }
     }
 
     public static <T> PacketTranslatorRegistry<T> create() {
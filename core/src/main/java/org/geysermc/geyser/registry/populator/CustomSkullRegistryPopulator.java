@@ -50,9 +50,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -126,17 +129,23 @@ public class CustomSkullRegistryPopulator {
             }
         });
 
+        // Download every skin at once, then register them in order
+        Map<String, CompletableFuture<Void>> downloads = new LinkedHashMap<>();
         skinHashes.forEach((skinHash) -> {
             if (!SKULL_HASH_PATTERN.matcher(skinHash).matches()) {
                 GeyserImpl.getInstance().getLogger().error("Skin hash " + skinHash + " does not match required format ^[a-fA-F0-9]+$ and will not be added as a custom block.");
                 return;
             }
 
+            downloads.put(skinHash, SkullResourcePackManager.cacheSkullSkin(skinHash));
+        });
+
+        downloads.forEach((skinHash, download) -> {
             try {
-                SkullResourcePackManager.cacheSkullSkin(skinHash);
+                download.join();
                 BlockRegistries.CUSTOM_SKULLS.register(skinHash, new CustomSkull(skinHash));
-            } catch (IOException e) {
-                GeyserImpl.getInstance().getLogger().error("Failed to cache skin for skull texture " + skinHash + " This skull will not be added as a custom block.", e);
+            } catch (CompletionException e) {
+                GeyserImpl.getInstance().getLogger().error("Failed to cache skin for skull texture " + skinHash + " This skull will not be added as a custom block.", e.getCause());
             }
         });
 
@@ -25,6 +25,8 @@
 
 package org.geysermc.geyser.scoreboard;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
@@ -102,6 +104,12 @@ public final class Scoreboard {
     @Getter
     private final Map<String, Team> playerToTeam = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * The scores the client currently has, by scoreboard id. Used to only send the lines that actually changed since
+     * the last update, which matters most when updates are throttled and batched by {@link ScoreboardUpdater}.
+     */
+    private final Long2ObjectMap<ScoreInfo> sentScores = new Long2ObjectOpenHashMap<>();
+
     private final AtomicBoolean updateLockActive = new AtomicBoolean(false);
     private int lastAddScoreCount = 0;
     private int lastRemoveScoreCount = 0;
@@ -233,6 +241,10 @@ public final class Scoreboard {
         handleDisplaySlot(correctSidebarSlot, addScores, removeScores);
         handleDisplaySlot(objectiveSlots.get(ScoreboardPosition.BELOW_NAME), addScores, removeScores);
 
+        // Removals come first, so a line that is removed and re-added to work around MCPE-143063 is still sent
+        removeScores.removeIf(info -> sentScores.remove(info.getScoreboardId()) == null);
+        addScores.removeIf(info -> info.equals(sentScores.put(info.getScoreboardId(), info)));
+
         if (!removeScores.isEmpty()) {
             SetScorePacket packet = new SetScorePacket();
             packet.setAction(SetScorePacket.Action.REMOVE);
@@ -258,6 +270,13 @@ public final class Scoreboard {
         }
     }
 
+    /**
+     * Called when an objective is removed from the client, which also removes all of its scores.
+     */
+    public void forgetSentScores(String objectiveId) {
+        sentScores.values().removeIf(info -> objectiveId.equals(info.getObjectiveId()));
+    }
+
     public Objective getObjective(String objectiveName) {
         return objectives.get(objectiveName);
     }
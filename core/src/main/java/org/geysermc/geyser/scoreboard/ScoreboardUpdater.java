@@ -30,13 +30,17 @@ import lombok.RequiredArgsConstructor;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.configuration.GeyserConfig;
 import org.geysermc.geyser.session.GeyserSession;
-import org.geysermc.geyser.session.cache.WorldCache;
 import org.geysermc.geyser.text.GeyserLocale;
 
-import java.util.Collection;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
-public final class ScoreboardUpdater extends Thread {
+/**
+ * Throttles scoreboard updates for sessions that receive a lot of score and team packets. Below the first threshold,
+ * translators update the scoreboard straight away; above it, the session's own tick flushes the changes a few times
+ * a second instead.
+ */
+public final class ScoreboardUpdater {
     public static final int FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
     public static final int SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD = 250;
 
@@ -45,137 +49,119 @@ public final class ScoreboardUpdater extends Thread {
 
     private static final boolean DEBUG_ENABLED;
 
+    private static final LongAdder TICKS = new LongAdder();
+    private static final LongAdder TICK_NANOS = new LongAdder();
+    private static final LongAdder FLUSHES = new LongAdder();
+
     static {
         GeyserConfig config = GeyserImpl.getInstance().config();
         FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD = Math.min(config.advanced().scoreboardPacketThreshold(), SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD);
         DEBUG_ENABLED = config.debugMode();
     }
 
-    private final GeyserImpl geyser = GeyserImpl.getInstance();
-
-    private long lastUpdate = System.currentTimeMillis();
-    private long lastPacketsPerSecondUpdate = System.currentTimeMillis();
+    private ScoreboardUpdater() {
+    }
 
-    public static void init() {
-        new ScoreboardUpdater().start();
+    /**
+     * @return how many session ticks have run the scoreboard updater
+     */
+    public static long ticks() {
+        return TICKS.sum();
     }
 
-    @Override
-    public void run() {
-        while (!geyser.isShuttingDown() && !geyser.isReloading()) {
-            try {
-                long timeTillAction = getTimeTillNextAction();
-                if (timeTillAction > 0) {
-                    sleepFor(timeTillAction);
-                    continue;
-                }
+    /**
+     * @return the total time spent by the scoreboard updater across all session ticks, in nanoseconds
+     */
+    public static long tickNanos() {
+        return TICK_NANOS.sum();
+    }
 
-                long currentTime = System.currentTimeMillis();
+    /**
+     * @return how many throttled scoreboard updates have been sent
+     */
+    public static long flushes() {
+        return FLUSHES.sum();
+    }
 
-                // reset score-packets per second every second
-                Collection<GeyserSession> sessions = geyser.getSessionManager().getSessions().values();
-                if (currentTime - lastPacketsPerSecondUpdate >= 1000) {
-                    lastPacketsPerSecondUpdate = currentTime;
-                    for (GeyserSession session : sessions) {
-                        ScoreboardSession scoreboardSession = session.getWorldCache().getScoreboardSession();
+    @RequiredArgsConstructor
+    @Getter
+    public static final class ScoreboardSession {
+        private final GeyserSession session;
+        private final AtomicInteger pendingPacketsPerSecond = new AtomicInteger(0);
+        private int packetsPerSecond;
+        private long lastUpdate;
+        private long lastLog;
+        private long lastPacketsPerSecondUpdate = System.currentTimeMillis();
+
+        /**
+         * Called every session tick, from the session's event loop.
+         */
+        public void tick() {
+            long start = System.nanoTime();
+            long currentTime = System.currentTimeMillis();
+            try {
+                tick(currentTime);
+            } catch (Throwable e) {
+                GeyserImpl.getInstance().getLogger().error("Error while translating scoreboard information!", e);
+                // Wait so we don't try to run the scoreboard immediately after this
+                lastUpdate = currentTime;
+            }
+            TICKS.increment();
+            TICK_NANOS.add(System.nanoTime() - start);
+        }
 
-                        int oldPps = scoreboardSession.getPacketsPerSecond();
-                        int newPps = scoreboardSession.getPendingPacketsPerSecond().get();
+        private void tick(long currentTime) {
+            Scoreboard scoreboard = session.getWorldCache().getScoreboard();
 
-                        scoreboardSession.packetsPerSecond = newPps;
-                        scoreboardSession.pendingPacketsPerSecond.set(0);
+            // reset score-packets per second every second
+            if (currentTime - lastPacketsPerSecondUpdate >= 1000) {
+                lastPacketsPerSecondUpdate = currentTime;
 
-                        // just making sure that all updates are pushed before giving up control
-                        if (oldPps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD &&
-                                newPps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            session.getWorldCache().getScoreboard().onUpdate();
-                        }
-                    }
-                }
+                int oldPps = packetsPerSecond;
+                int newPps = pendingPacketsPerSecond.getAndSet(0);
+                packetsPerSecond = newPps;
 
-                if (currentTime - lastUpdate >= FIRST_MILLIS_BETWEEN_UPDATES) {
+                // just making sure that all updates are pushed before giving up control
+                if (oldPps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD &&
+                        newPps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
+                    scoreboard.onUpdate();
                     lastUpdate = currentTime;
-
-                    for (GeyserSession session : sessions) {
-                        WorldCache worldCache = session.getWorldCache();
-                        ScoreboardSession scoreboardSession = worldCache.getScoreboardSession();
-
-                        int pps = scoreboardSession.getPacketsPerSecond();
-                        if (pps >= FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
-                            boolean reachedSecondThreshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                            int millisBetweenUpdates = reachedSecondThreshold ?
-                                    SECOND_MILLIS_BETWEEN_UPDATES :
-                                    FIRST_MILLIS_BETWEEN_UPDATES;
-
-                            if (currentTime - scoreboardSession.lastUpdate >= millisBetweenUpdates) {
-                                worldCache.getScoreboard().onUpdate();
-                                scoreboardSession.lastUpdate = currentTime;
-
-                                if (DEBUG_ENABLED && (currentTime - scoreboardSession.lastLog >= 60000)) { // one minute
-                                    int threshold = reachedSecondThreshold ?
-                                            SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
-                                            FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
-
-                                    geyser.getLogger().info(
-                                            GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
-                                                    GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
-                                    );
-
-                                    scoreboardSession.lastLog = currentTime;
-                                }
-                            }
-                        }
-                    }
+                    FLUSHES.increment();
+                    return;
                 }
+            }
 
-                if (DEBUG_ENABLED) {
-                    long timeSpent = System.currentTimeMillis() - currentTime;
-                    if (timeSpent > 0) {
-                        geyser.getLogger().info(String.format(
-                                "Scoreboard updater: took %s ms. Updated %s players",
-                                timeSpent, sessions.size()
-                        ));
-                    }
-                }
+            int pps = packetsPerSecond;
+            if (pps < FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD) {
+                // Translators update the scoreboard themselves
+                return;
+            }
 
-                long timeTillNextAction = getTimeTillNextAction();
-                sleepFor(timeTillNextAction);
-            } catch (Throwable e) {
-                geyser.getLogger().error("Error while translating scoreboard information!", e);
-                // Wait so we don't try to run the scoreboard immediately after this
-                sleepFor(FIRST_MILLIS_BETWEEN_UPDATES);
+            boolean reachedSecondThreshold = pps >= SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD;
+            int millisBetweenUpdates = reachedSecondThreshold ?
+                    SECOND_MILLIS_BETWEEN_UPDATES :
+                    FIRST_MILLIS_BETWEEN_UPDATES;
+
+            if (currentTime - lastUpdate < millisBetweenUpdates) {
+                return;
             }
-        }
-    }
 
-    private long getTimeTillNextAction() {
-        long currentTime = System.currentTimeMillis();
+            scoreboard.onUpdate();
+            lastUpdate = currentTime;
+            FLUSHES.increment();
 
-        long timeUntilNextUpdate = FIRST_MILLIS_BETWEEN_UPDATES - (currentTime - lastUpdate);
-        long timeUntilPacketReset = 1000 - (currentTime - lastPacketsPerSecondUpdate);
+            if (DEBUG_ENABLED && (currentTime - lastLog >= 60000)) { // one minute
+                int threshold = reachedSecondThreshold ?
+                        SECOND_SCORE_PACKETS_PER_SECOND_THRESHOLD :
+                        FIRST_SCORE_PACKETS_PER_SECOND_THRESHOLD;
 
-        return Math.min(timeUntilNextUpdate, timeUntilPacketReset);
-    }
+                GeyserImpl.getInstance().getLogger().info(
+                        GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.bedrockUsername(), threshold, pps) +
+                                GeyserLocale.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
+                );
 
-    private void sleepFor(long millis) {
-        if (millis <= 0) {
-            return;
-        }
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+                lastLog = currentTime;
+            }
         }
     }
-
-    @RequiredArgsConstructor
-    @Getter
-    public static final class ScoreboardSession {
-        private final GeyserSession session;
-        private final AtomicInteger pendingPacketsPerSecond = new AtomicInteger(0);
-        private int packetsPerSecond;
-        private long lastUpdate;
-        private long lastLog;
-    }
 }
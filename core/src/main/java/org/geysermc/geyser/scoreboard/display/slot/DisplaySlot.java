@@ -100,6 +100,7 @@ public abstract class DisplaySlot {
         RemoveObjectivePacket packet = new RemoveObjectivePacket();
         packet.setObjectiveId(objectiveId());
         session.sendUpstreamPacket(packet);
+        objective.getScoreboard().forgetSentScores(objectiveId());
     }
 
     public Objective objective() {
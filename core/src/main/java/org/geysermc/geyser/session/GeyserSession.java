@@ -131,7 +131,6 @@ import org.geysermc.geyser.entity.GeyserEntityData;
 import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
 import org.geysermc.geyser.entity.type.BoatEntity;
 import org.geysermc.geyser.entity.type.Entity;
-import org.geysermc.geyser.entity.type.ItemFrameEntity;
 import org.geysermc.geyser.entity.type.Tickable;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
@@ -154,7 +153,10 @@ import org.geysermc.geyser.item.Items;
 import org.geysermc.geyser.item.type.BlockItem;
 import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.JavaDimension;
+import org.geysermc.geyser.level.chunk.ChunkEncodingQueue;
 import org.geysermc.geyser.level.physics.CollisionManager;
+import org.geysermc.geyser.network.LoginPacketCache;
+import org.geysermc.geyser.network.PlayerEventLoopGroup;
 import org.geysermc.geyser.network.netty.LocalSession;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.BlockMappings;
@@ -165,18 +167,22 @@ import org.geysermc.geyser.session.cache.AdvancementsCache;
 import org.geysermc.geyser.session.cache.BlockBreakHandler;
 import org.geysermc.geyser.session.cache.BookEditCache;
 import org.geysermc.geyser.session.cache.BundleCache;
+import org.geysermc.geyser.session.cache.ChunkBlobCache;
 import org.geysermc.geyser.session.cache.ChunkCache;
 import org.geysermc.geyser.session.cache.ComponentCache;
 import org.geysermc.geyser.session.cache.EntityCache;
 import org.geysermc.geyser.session.cache.EntityEffectCache;
 import org.geysermc.geyser.session.cache.FormCache;
 import org.geysermc.geyser.session.cache.InputCache;
+import org.geysermc.geyser.session.cache.InventoryContentCache;
+import org.geysermc.geyser.session.cache.ItemFrameCache;
 import org.geysermc.geyser.session.cache.LodestoneCache;
 import org.geysermc.geyser.session.cache.PistonCache;
 import org.geysermc.geyser.session.cache.PreferencesCache;
 import org.geysermc.geyser.session.cache.RegistryCache;
 import org.geysermc.geyser.session.cache.SkullCache;
 import org.geysermc.geyser.session.cache.StructureBlockCache;
+import org.geysermc.geyser.session.cache.SubChunkCache;
 import org.geysermc.geyser.session.cache.TagCache;
 import org.geysermc.geyser.session.cache.TeleportCache;
 import org.geysermc.geyser.session.cache.WorldBorder;
@@ -289,18 +295,21 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private final AdvancementsCache advancementsCache;
     private final BookEditCache bookEditCache;
     private final BundleCache bundleCache;
+    private final ChunkBlobCache chunkBlobCache;
     private final ChunkCache chunkCache;
     private final ComponentCache componentCache;
     private final EntityCache entityCache;
     private final EntityEffectCache effectCache;
     private final FormCache formCache;
     private final InputCache inputCache;
+    private final InventoryContentCache inventoryContentCache;
     private final LodestoneCache lodestoneCache;
     private final PistonCache pistonCache;
     private final PreferencesCache preferencesCache;
     private final RegistryCache registryCache;
     private final SkullCache skullCache;
     private final StructureBlockCache structureBlockCache;
+    private final SubChunkCache subChunkCache;
     private final TagCache tagCache;
     private final WaypointCache waypointCache;
     private final WorldCache worldCache;
@@ -400,10 +409,10 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private ItemMappings itemMappings;
 
     /**
-     * A map of Vector3i positions to Java entities.
+     * Item frames by their Bedrock position.
      * Used for translating Bedrock block actions to Java entity actions.
      */
-    private final Map<Vector3i, ItemFrameEntity> itemFrameCache = new Object2ObjectOpenHashMap<>();
+    private final ItemFrameCache itemFrameCache = new ItemFrameCache();
 
     /**
      * A map of all players (and their heads) that are wearing a player head with a custom texture.
@@ -748,6 +757,11 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      */
     private final List<BedrockPacket> queuedImmediatelyPackets = new ArrayList<>();
 
+    /**
+     * Keeps Java packets in order while chunks are being converted off the event loop.
+     */
+    private final ChunkEncodingQueue chunkEncodingQueue = new ChunkEncodingQueue(this);
+
     /**
      * Stores the book that is currently being read. Used in {@link org.geysermc.geyser.translator.protocol.java.inventory.JavaOpenBookTranslator}
      */
@@ -800,18 +814,21 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.advancementsCache = new AdvancementsCache(this);
         this.bookEditCache = new BookEditCache(this);
         this.bundleCache = new BundleCache(this);
+        this.chunkBlobCache = new ChunkBlobCache(this);
         this.chunkCache = new ChunkCache(this);
         this.componentCache = new ComponentCache(this);
         this.entityCache = new EntityCache(this);
         this.effectCache = new EntityEffectCache();
         this.formCache = new FormCache(this);
         this.inputCache = new InputCache(this);
+        this.inventoryContentCache = new InventoryContentCache(this);
         this.lodestoneCache = new LodestoneCache();
         this.pistonCache = new PistonCache(this);
         this.preferencesCache = new PreferencesCache(this);
         this.registryCache = new RegistryCache(this);
         this.skullCache = new SkullCache(this);
         this.structureBlockCache = new StructureBlockCache();
+        this.subChunkCache = new SubChunkCache(this);
         this.tagCache = new TagCache(this);
         this.waypointCache = new WaypointCache(this);
         this.worldCache = new WorldCache(this);
@@ -873,9 +890,11 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         sentSpawnPacket = true;
         syncEntityProperties();
 
-        ItemComponentPacket componentPacket = new ItemComponentPacket();
-        componentPacket.getItems().addAll(itemMappings.getItemDefinitions().values());
-        upstream.sendPacket(componentPacket);
+        LoginPacketCache.send(this, ItemComponentPacket.class, () -> {
+            ItemComponentPacket componentPacket = new ItemComponentPacket();
+            componentPacket.getItems().addAll(itemMappings.getItemDefinitions().values());
+            return componentPacket;
+        });
 
         ChunkUtils.sendEmptyChunks(this, playerEntity.position().toInt(), 0, false);
 
@@ -888,22 +907,30 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * Sends biome definitions, entity identifiers, camera presets, and creative content to the client.
      */
     private void sendRegistryDefinitions() {
-        BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
-        biomeDefinitionListPacket.setBiomes(Registries.BIOMES.get());
-        upstream.sendPacket(biomeDefinitionListPacket);
+        LoginPacketCache.send(this, BiomeDefinitionListPacket.class, () -> {
+            BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
+            biomeDefinitionListPacket.setBiomes(Registries.BIOMES.get());
+            return biomeDefinitionListPacket;
+        });
 
-        AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
-        entityPacket.setIdentifiers(Registries.BEDROCK_ENTITY_IDENTIFIERS.get());
-        upstream.sendPacket(entityPacket);
+        LoginPacketCache.send(this, AvailableEntityIdentifiersPacket.class, () -> {
+            AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
+            entityPacket.setIdentifiers(Registries.BEDROCK_ENTITY_IDENTIFIERS.get());
+            return entityPacket;
+        });
 
-        CameraPresetsPacket cameraPresetsPacket = new CameraPresetsPacket();
-        cameraPresetsPacket.getPresets().addAll(CameraDefinitions.CAMERA_PRESETS);
-        upstream.sendPacket(cameraPresetsPacket);
+        LoginPacketCache.send(this, CameraPresetsPacket.class, () -> {
+            CameraPresetsPacket cameraPresetsPacket = new CameraPresetsPacket();
+            cameraPresetsPacket.getPresets().addAll(CameraDefinitions.CAMERA_PRESETS);
+            return cameraPresetsPacket;
+        });
 
-        CreativeContentPacket creativePacket = new CreativeContentPacket();
-        creativePacket.getContents().addAll(this.itemMappings.getCreativeItems());
-        creativePacket.getGroups().addAll(this.itemMappings.getCreativeItemGroups());
-        upstream.sendPacket(creativePacket);
+        LoginPacketCache.send(this, CreativeContentPacket.class, () -> {
+            CreativeContentPacket creativePacket = new CreativeContentPacket();
+            creativePacket.getContents().addAll(this.itemMappings.getCreativeItems());
+            creativePacket.getGroups().addAll(this.itemMappings.getCreativeItemGroups());
+            return creativePacket;
+        });
     }
 
     /**
@@ -1201,6 +1228,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
             // Remove from session manager
             geyser.getSessionManager().removeSession(this);
+            if (tickEventLoop instanceof PlayerEventLoopGroup.PlayerEventLoop playerEventLoop) {
+                playerEventLoop.sessionClosed();
+            }
             if (authData != null) {
                 PendingMicrosoftAuthentication.AuthenticationTask task = geyser.getPendingMicrosoftAuthentication().getTask(authData.xuid());
                 if (task != null) {
@@ -1214,6 +1244,8 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         }
 
         queuedImmediatelyPackets.clear();
+        ensureInEventLoop(chunkEncodingQueue::clear);
+        ensureInEventLoop(chunkBlobCache::clear);
 
         // Mark session as closed before cancelling erosion futures
         closed = true;
@@ -1354,6 +1386,8 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
             this.bundleCache.tick();
             this.dialogManager.tick();
             this.waypointCache.tick();
+            this.worldCache.getScoreboardSession().tick();
+            this.entityCache.getUpdateQueue().flush();
 
             this.upstream.getSession().getPeer().sendPacketsImmediately(0, 0, queuedImmediatelyPackets.toArray(new BedrockPacket[0]));
             queuedImmediatelyPackets.clear();
@@ -1964,6 +1998,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * @param packet the bedrock packet from the Cloudburst protocol lib
      */
     public void sendUpstreamPacket(BedrockPacket packet) {
+        inventoryContentCache.onPacketSent(packet);
         upstream.sendPacket(packet);
     }
 
@@ -1973,6 +2008,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
      * @param packet the bedrock packet from the Cloudburst protocol lib
      */
     public void sendUpstreamPacketImmediately(BedrockPacket packet) {
+        inventoryContentCache.onPacketSent(packet);
         upstream.sendPacketImmediately(packet);
     }
 
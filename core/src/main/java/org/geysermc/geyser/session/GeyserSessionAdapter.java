@@ -25,12 +25,15 @@
 
 package org.geysermc.geyser.session;
 
+import io.netty.channel.Channel;
 import org.geysermc.floodgate.crypto.FloodgateCipher;
 import org.geysermc.floodgate.util.BedrockData;
 import org.geysermc.geyser.Constants;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.network.AuthType;
 import org.geysermc.geyser.api.util.PlatformType;
+import org.geysermc.geyser.level.chunk.ChunkEncodingQueue;
+import org.geysermc.geyser.metrics.GeyserMetrics;
 import org.geysermc.geyser.network.netty.LocalSession;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.auth.BedrockClientData;
@@ -47,6 +50,7 @@ import org.geysermc.mcprotocollib.network.event.session.SessionAdapter;
 import org.geysermc.mcprotocollib.network.packet.Packet;
 import org.geysermc.mcprotocollib.protocol.data.UnexpectedEncryptionException;
 import org.geysermc.mcprotocollib.protocol.packet.handshake.serverbound.ClientIntentionPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLevelChunkWithLightPacket;
 
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
@@ -125,6 +129,11 @@ public class GeyserSessionAdapter extends SessionAdapter {
         session.loggingIn = false;
         session.loggedIn = true;
 
+        Channel channel = session.getDownstream().getSession().getChannel();
+        if (channel != null) {
+            GeyserMetrics.trackDownstream(channel);
+        }
+
         if (session.getDownstream().getSession() instanceof LocalSession) {
             // Connected directly to the server
             geyser.getLogger().info(GeyserLocale.getLocaleStringLog("geyser.network.remote.connect_internal",
@@ -224,7 +233,26 @@ public class GeyserSessionAdapter extends SessionAdapter {
 
     @Override
     public void packetReceived(Session session, Packet packet) {
-        Registries.JAVA_PACKET_TRANSLATORS.translate(packet.getClass(), packet, this.session, true);
+        if (GeyserMetrics.isEnabled()) {
+            GeyserMetrics.downstreamPacketReceived();
+        }
+        Runnable translate = () -> Registries.JAVA_PACKET_TRANSLATORS.translate(packet.getClass(), packet, this.session, true);
+        ChunkEncodingQueue chunkEncodingQueue = this.session.getChunkEncodingQueue();
+        // Chunks queue themselves, and only wait for packets that are held back; anything else has to wait for
+        // chunks that are still being converted
+        boolean deferred = packet instanceof ClientboundLevelChunkWithLightPacket
+            ? chunkEncodingQueue.deferIfBlocked(translate)
+            : chunkEncodingQueue.deferIfPending(translate);
+        if (!deferred) {
+            translate.run();
+        }
+    }
+
+    @Override
+    public void packetSent(Session session, Packet packet) {
+        if (GeyserMetrics.isEnabled()) {
+            GeyserMetrics.downstreamPacketSent();
+        }
     }
 
     @Override
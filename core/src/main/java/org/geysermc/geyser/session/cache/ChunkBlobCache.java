@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import lombok.Setter;
+import org.cloudburstmc.protocol.bedrock.packet.ClientCacheBlobStatusPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ClientCacheMissResponsePacket;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.util.XXHash64;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks chunk data blobs that have been sent to a Bedrock client using the client blob cache.
+ * <p>
+ * When caching is enabled, chunk sections and biomes are referenced in {@link org.cloudburstmc.protocol.bedrock.packet.LevelChunkPacket}
+ * by their hash only. The client then tells us which of these hashes it already has stored, and we only send the missing data.
+ */
+public class ChunkBlobCache {
+    /**
+     * How many blobs may wait for the client's reply before chunks are sent without the blob cache again.
+     * A client that never replies would otherwise make us hold on to every section it was sent.
+     */
+    private static final int MAX_PENDING_BLOBS = Integer.getInteger("Geyser.MaxPendingChunkBlobs", 8192);
+
+    /**
+     * How many blobs clients already had stored.
+     */
+    private static final LongAdder HITS = new LongAdder();
+    /**
+     * How many blobs we had to send to clients.
+     */
+    private static final LongAdder MISSES = new LongAdder();
+
+    private final GeyserSession session;
+    private final boolean enabled;
+
+    /**
+     * If the client has told us that it supports the blob cache. Some platforms (e.g. consoles) do not.
+     */
+    @Setter
+    private boolean clientSupported;
+
+    /**
+     * Blobs that have been referenced in a chunk packet, but which the client has not confirmed or requested yet.
+     */
+    private final Long2ObjectMap<PendingBlob> pendingBlobs = new Long2ObjectOpenHashMap<>();
+
+    public ChunkBlobCache(GeyserSession session) {
+        this.session = session;
+        this.enabled = session.getGeyser().config().advanced().bedrock().useClientBlobCache();
+    }
+
+    /**
+     * @return if chunks should be sent to this client using the blob cache
+     */
+    public boolean isEnabled() {
+        if (!enabled || !clientSupported) {
+            return false;
+        }
+        if (pendingBlobs.size() >= MAX_PENDING_BLOBS) {
+            session.getGeyser().getLogger().debug("Client " + session.bedrockUsername() + " has not replied to "
+                + pendingBlobs.size() + " chunk blobs; sending chunks without the blob cache");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Registers the readable bytes of the buffer as a blob that will be sent to the client. The buffer is not modified.
+     *
+     * @return the blob ID to reference in the chunk packet
+     */
+    public long addBlob(ByteBuf buffer) {
+        long blobId = XXHash64.hash(buffer);
+        PendingBlob blob = pendingBlobs.get(blobId);
+        if (blob == null) {
+            byte[] data = new byte[buffer.readableBytes()];
+            buffer.getBytes(buffer.readerIndex(), data);
+            pendingBlobs.put(blobId, new PendingBlob(data));
+        } else {
+            // Same section referenced twice before the client replied - e.g. identical terrain in neighbouring chunks
+            blob.references++;
+        }
+        return blobId;
+    }
+
+    /**
+     * Handles the client's response to a cached chunk, sending any blobs it does not have yet.
+     */
+    public void onBlobStatus(ClientCacheBlobStatusPacket packet) {
+        LongList acks = packet.getAcks();
+        for (int i = 0; i < acks.size(); i++) {
+            if (release(acks.getLong(i)) != null) {
+                HITS.increment();
+            }
+        }
+
+        LongList naks = packet.getNaks();
+        if (naks.isEmpty()) {
+            return;
+        }
+
+        ClientCacheMissResponsePacket response = new ClientCacheMissResponsePacket();
+        for (int i = 0; i < naks.size(); i++) {
+            long blobId = naks.getLong(i);
+            byte[] data = release(blobId);
+            if (data == null) {
+                session.getGeyser().getLogger().debug("Client " + session.bedrockUsername() + " requested unknown blob " + blobId);
+                continue;
+            }
+            MISSES.increment();
+            response.getBlobs().put(blobId, Unpooled.wrappedBuffer(data));
+        }
+
+        if (!response.getBlobs().isEmpty()) {
+            session.sendUpstreamPacket(response);
+        }
+    }
+
+    /**
+     * Forgets every blob the client has not replied to yet. Any replies that still arrive for them are ignored.
+     */
+    public void clear() {
+        pendingBlobs.clear();
+    }
+
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    private byte[] release(long blobId) {
+        PendingBlob blob = pendingBlobs.get(blobId);
+        if (blob == null) {
+            return null;
+        }
+        if (--blob.references <= 0) {
+            pendingBlobs.remove(blobId);
+        }
+        return blob.data;
+    }
+
+    private static final class PendingBlob {
+        private final byte[] data;
+        private int references = 1;
+
+        private PendingBlob(byte[] data) {
+            this.data = data;
+        }
+    }
+}
@@ -31,7 +31,6 @@ import lombok.Setter;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.chunk.GeyserChunk;
-import org.geysermc.geyser.registry.BlockRegistries;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
@@ -40,6 +39,11 @@ public class ChunkCache {
     private final boolean cache;
     private final Long2ObjectMap<GeyserChunk> chunks;
 
+    /**
+     * Kept up to date on the session thread so metrics can read it from elsewhere.
+     */
+    private volatile long memoryUsage;
+
     @Setter
     private int minY;
     @Setter
@@ -57,7 +61,8 @@ public class ChunkCache {
 
         long chunkPosition = MathUtils.chunkPositionToLong(x, z);
         GeyserChunk geyserChunk = GeyserChunk.from(chunks);
-        this.chunks.put(chunkPosition, geyserChunk);
+        GeyserChunk previous = this.chunks.put(chunkPosition, geyserChunk);
+        memoryUsage += geyserChunk.estimateMemoryUsage() - (previous == null ? 0 : previous.estimateMemoryUsage());
     }
 
     /**
@@ -78,30 +83,19 @@ public class ChunkCache {
             return;
         }
 
-        if (y < minY || ((y - minY) >> 4) > chunk.sections().length - 1) {
+        if (y < minY || ((y - minY) >> 4) > chunk.sectionCount() - 1) {
             // Y likely goes above or below the height limit of this world
             return;
         }
 
-        boolean previouslyEmpty = false;
         try {
-            DataPalette palette = chunk.sections()[(y - minY) >> 4];
-            if (palette == null) {
-                previouslyEmpty = true;
-                if (block != Block.JAVA_AIR_ID) {
-                    // A previously empty chunk, which is no longer empty as a block has been added to it
-                    palette = DataPalette.createForBlockState(Block.JAVA_AIR_ID, BlockRegistries.BLOCK_STATES.get().size());
-                    chunk.sections()[(y - minY) >> 4] = palette;
-                } else {
-                    // Nothing to update
-                    return;
-                }
+            long growth = chunk.set((y - minY) >> 4, x & 0xF, y & 0xF, z & 0xF, block);
+            if (growth != 0) {
+                memoryUsage += growth;
             }
-
-            palette.set(x & 0xF, y & 0xF, z & 0xF, block);
         } catch (Throwable e) {
             GeyserImpl.getInstance().getLogger().error("Failed to update block in chunk cache! ", e);
-            GeyserImpl.getInstance().getLogger().error("Info: newChunk=%s, block=%s, pos=%s,%s,%s".formatted(previouslyEmpty, block, x, y, z));
+            GeyserImpl.getInstance().getLogger().error("Info: block=%s, pos=%s,%s,%s".formatted(block, x, y, z));
         }
     }
 
@@ -115,17 +109,12 @@ public class ChunkCache {
             return Block.JAVA_AIR_ID;
         }
 
-        if (y < minY || ((y - minY) >> 4) > column.sections().length - 1) {
+        if (y < minY || ((y - minY) >> 4) > column.sectionCount() - 1) {
             // Y likely goes above or below the height limit of this world
             return Block.JAVA_AIR_ID;
         }
 
-        DataPalette chunk = column.sections()[(y - minY) >> 4];
-        if (chunk != null) {
-            return chunk.get(x & 0xF, y & 0xF, z & 0xF);
-        }
-
-        return Block.JAVA_AIR_ID;
+        return column.get((y - minY) >> 4, x & 0xF, y & 0xF, z & 0xF);
     }
 
     public void removeChunk(int chunkX, int chunkZ) {
@@ -134,7 +123,10 @@ public class ChunkCache {
         }
 
         long chunkPosition = MathUtils.chunkPositionToLong(chunkX, chunkZ);
-        chunks.remove(chunkPosition);
+        GeyserChunk chunk = chunks.remove(chunkPosition);
+        if (chunk != null) {
+            memoryUsage -= chunk.estimateMemoryUsage();
+        }
     }
 
     /**
@@ -148,6 +140,23 @@ public class ChunkCache {
         }
 
         chunks.clear();
+        memoryUsage = 0;
+    }
+
+    /**
+     * @return the amount of chunks currently cached
+     */
+    public int size() {
+        return cache ? chunks.size() : 0;
+    }
+
+    /**
+     * Safe to call from any thread.
+     *
+     * @return a rough estimate of the memory used by the cached chunks, in bytes
+     */
+    public long estimateMemoryUsage() {
+        return memoryUsage;
     }
 
     public int getChunkMinY() {
@@ -38,6 +38,8 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import lombok.Getter;
+import org.geysermc.geyser.entity.EntityUpdateQueue;
+import org.geysermc.geyser.entity.EntityUpdateScheduler;
 import org.geysermc.geyser.entity.type.Entity;
 import org.geysermc.geyser.entity.type.Tickable;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
@@ -62,9 +64,15 @@ public class EntityCache {
 
     @Getter
     private final AtomicLong nextEntityId = new AtomicLong(2L);
+    @Getter
+    private final EntityUpdateScheduler updateScheduler;
+    @Getter
+    private final EntityUpdateQueue updateQueue;
 
     public EntityCache(GeyserSession session) {
         this.session = session;
+        this.updateScheduler = new EntityUpdateScheduler(session);
+        this.updateQueue = new EntityUpdateQueue(updateScheduler);
     }
 
     public void spawnEntity(Entity entity) {
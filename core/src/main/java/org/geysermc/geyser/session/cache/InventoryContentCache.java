@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ChangeDimensionPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ContainerClosePacket;
+import org.cloudburstmc.protocol.bedrock.packet.ContainerOpenPacket;
+import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
+import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
+import org.cloudburstmc.protocol.bedrock.packet.RespawnPacket;
+import org.geysermc.geyser.session.GeyserSession;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers what the Bedrock client was last sent for each container, so that contents the Java server sends again
+ * only update the slots that changed. Servers resend whole containers after clicks, and some plugin menus refresh
+ * themselves several times a second.
+ * <p>
+ * Every inventory packet sent to the client passes through {@link #onPacketSent(BedrockPacket)}. Whenever the client
+ * could have changed its inventory by itself, {@link #invalidate()} must be called so the next update is sent in full.
+ */
+public final class InventoryContentCache {
+    private static final LongAdder FULL_UPDATES = new LongAdder();
+    private static final LongAdder SLOT_UPDATES = new LongAdder();
+    private static final LongAdder SKIPPED_SLOTS = new LongAdder();
+
+    private final GeyserSession session;
+    private final Int2ObjectMap<ItemData[]> sentContents = new Int2ObjectOpenHashMap<>();
+
+    public InventoryContentCache(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Sends the contents of a container, or only the slots that changed since it was last sent.
+     * If most slots changed, the whole container is sent as that is smaller.
+     */
+    public void sendContents(int containerId, List<ItemData> contents) {
+        ItemData[] changed = null;
+        int changedCount = 0;
+        synchronized (this) {
+            ItemData[] sent = sentContents.get(containerId);
+            if (sent != null && sent.length == contents.size()) {
+                changed = new ItemData[sent.length];
+                for (int i = 0; i < sent.length; i++) {
+                    ItemData item = contents.get(i);
+                    if (!isSame(sent[i], item)) {
+                        changed[i] = item;
+                        changedCount++;
+                    }
+                }
+            }
+        }
+
+        if (changed == null || changedCount * 2 > contents.size()) {
+            FULL_UPDATES.increment();
+            InventoryContentPacket contentPacket = new InventoryContentPacket();
+            contentPacket.setContainerId(containerId);
+            contentPacket.setContents(contents);
+            session.sendUpstreamPacket(contentPacket);
+            return;
+        }
+
+        SKIPPED_SLOTS.add(contents.size() - changedCount);
+        SLOT_UPDATES.add(changedCount);
+        for (int i = 0; i < changed.length; i++) {
+            if (changed[i] != null) {
+                InventorySlotPacket slotPacket = new InventorySlotPacket();
+                slotPacket.setContainerId(containerId);
+                slotPacket.setSlot(i);
+                slotPacket.setItem(changed[i]);
+                session.sendUpstreamPacket(slotPacket);
+            }
+        }
+    }
+
+    /**
+     * Keeps track of the inventory packets sent to the client, whichever code sent them.
+     */
+    public void onPacketSent(BedrockPacket packet) {
+        if (packet instanceof InventoryContentPacket contentPacket) {
+            synchronized (this) {
+                if (contentPacket.getContainerNameData() == null) {
+                    sentContents.put(contentPacket.getContainerId(), contentPacket.getContents().toArray(new ItemData[0]));
+                } else {
+                    // Dynamic containers, such as bundles, share a container ID
+                    sentContents.remove(contentPacket.getContainerId());
+                }
+            }
+        } else if (packet instanceof InventorySlotPacket slotPacket) {
+            synchronized (this) {
+                ItemData[] sent = sentContents.get(slotPacket.getContainerId());
+                if (sent != null) {
+                    if (slotPacket.getContainerNameData() == null && slotPacket.getSlot() >= 0 && slotPacket.getSlot() < sent.length) {
+                        sent[slotPacket.getSlot()] = slotPacket.getItem();
+                    } else {
+                        sentContents.remove(slotPacket.getContainerId());
+                    }
+                }
+            }
+        } else if (packet instanceof ContainerOpenPacket openPacket) {
+            forget(openPacket.getId());
+        } else if (packet instanceof ContainerClosePacket closePacket) {
+            forget(closePacket.getId());
+        } else if (packet instanceof RespawnPacket || packet instanceof ChangeDimensionPacket) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Forgets everything that was sent, for when the client may have changed its inventory itself.
+     */
+    public synchronized void invalidate() {
+        sentContents.clear();
+    }
+
+    private synchronized void forget(int containerId) {
+        sentContents.remove(containerId);
+    }
+
+    private static boolean isSame(ItemData sent, ItemData item) {
+        if (sent == item) {
+            return true;
+        }
+        return sent.equals(item, true, true, true)
+            && sent.getNetId() == item.getNetId()
+            && sent.isUsingNetId() == item.isUsingNetId()
+            && sent.getBlockingTicks() == item.getBlockingTicks()
+            && Objects.equals(sent.getBlockDefinition(), item.getBlockDefinition())
+            && Arrays.equals(sent.getCanPlace(), item.getCanPlace())
+            && Arrays.equals(sent.getCanBreak(), item.getCanBreak());
+    }
+
+    /**
+     * @return how many containers were sent in full
+     */
+    public static long fullUpdates() {
+        return FULL_UPDATES.sum();
+    }
+
+    /**
+     * @return how many slots were sent on their own, in place of a full container
+     */
+    public static long slotUpdates() {
+        return SLOT_UPDATES.sum();
+    }
+
+    /**
+     * @return how many slots were not sent because the client already had them
+     */
+    public static long skippedSlots() {
+        return SKIPPED_SLOTS.sum();
+    }
+}
@@ -25,8 +25,11 @@
 
 package org.geysermc.geyser.session.cache;
 
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.kyori.adventure.key.Key;
@@ -68,6 +71,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -125,6 +129,8 @@ public final class RegistryCache implements JavaRegistryProvider {
 
     private final GeyserSession session;
     private final Reference2ObjectMap<JavaRegistryKey<?>, SimpleJavaRegistry<?>> registries;
+    private final Reference2LongMap<JavaRegistryKey<?>> registryHashes = new Reference2LongOpenHashMap<>();
+    private volatile long fingerprint;
 
     public RegistryCache(GeyserSession session) {
         this.session = session;
@@ -145,6 +151,7 @@ public final class RegistryCache implements JavaRegistryProvider {
             if (reader != null) {
                 try {
                     readRegistry(session, registryKey, registries.get(registryKey), reader, packet.getEntries());
+                    updateFingerprint(registryKey, packet.getEntries());
                 } catch (Exception exception) {
                     GeyserImpl.getInstance().getLogger().error("Failed parsing registry entries for " + registryKey + "!", exception);
                 }
@@ -156,6 +163,29 @@ public final class RegistryCache implements JavaRegistryProvider {
         }
     }
 
+    /**
+     * Sessions that were sent the same registries get the same fingerprint, so anything translated with them
+     * can be shared between those sessions.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    private void updateFingerprint(JavaRegistryKey<?> registryKey, List<RegistryEntry> entries) {
+        long hash = 1;
+        for (RegistryEntry entry : entries) {
+            hash = 31 * hash + Objects.hash(entry.getId(), entry.getData());
+        }
+        registryHashes.put(registryKey, hash);
+
+        // Registries can arrive in any order, so combine them in a way that does not depend on it
+        long combined = 0;
+        for (Reference2LongMap.Entry<JavaRegistryKey<?>> registryHash : registryHashes.reference2LongEntrySet()) {
+            combined += HashCommon.mix(registryHash.getLongValue() ^ registryHash.getKey().registryKey().hashCode());
+        }
+        this.fingerprint = combined;
+    }
+
     @Override
     public <T> JavaRegistry<T> registry(JavaRegistryKey<T> registryKey) {
         if (!registries.containsKey(registryKey)) {
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.ints.IntImmutableList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.nbt.NbtMap;
+import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.level.chunk.GeyserChunkSection;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.util.MathUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores translated Bedrock chunk sections so they can be sent individually when the client requests them
+ * with a {@link org.cloudburstmc.protocol.bedrock.packet.SubChunkRequestPacket}, instead of sending the whole column up front.
+ */
+public class SubChunkCache {
+    private final GeyserSession session;
+    private final boolean enabled;
+    private final Long2ObjectMap<Column> columns = new Long2ObjectOpenHashMap<>();
+
+    public SubChunkCache(GeyserSession session) {
+        this.session = session;
+        this.enabled = session.getGeyser().config().advanced().bedrock().useSubChunkRequests();
+    }
+
+    /**
+     * @return if chunk sections should be sent to this client on request only
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Caches a translated column.
+     *
+     * @param sections the Bedrock sections of this column, starting at the bottom of the Bedrock dimension. Null entries are air.
+     * @param blockEntities all Bedrock block entities of this column
+     */
+    public void addColumn(int chunkX, int chunkZ, GeyserChunkSection[] sections, List<NbtMap> blockEntities) {
+        if (!enabled) {
+            return;
+        }
+
+        BedrockDimension dimension = session.getBedrockDimension();
+        int minSectionY = dimension.minY() >> 4;
+
+        @SuppressWarnings("unchecked")
+        List<NbtMap>[] sectionBlockEntities = new List[sections.length];
+        for (NbtMap blockEntity : blockEntities) {
+            int sectionY = (blockEntity.getInt("y") >> 4) - minSectionY;
+            if (sectionY < 0 || sectionY >= sections.length) {
+                continue;
+            }
+            List<NbtMap> list = sectionBlockEntities[sectionY];
+            if (list == null) {
+                list = sectionBlockEntities[sectionY] = new ObjectArrayList<>();
+            }
+            list.add(blockEntity);
+        }
+
+        columns.put(MathUtils.chunkPositionToLong(chunkX, chunkZ), new Column(dimension.bedrockId(), minSectionY, sections, sectionBlockEntities));
+    }
+
+    public @Nullable Column getColumn(int chunkX, int chunkZ) {
+        if (!enabled) {
+            return null;
+        }
+        return columns.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Keeps cached sections in sync with block changes, in case the client has not requested a section yet.
+     */
+    public void updateBlock(int x, int y, int z, int javaId) {
+        if (!enabled) {
+            return;
+        }
+
+        int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
+        setBlock(x, y, z, bedrockId, BlockRegistries.WATERLOGGED.get().get(javaId));
+    }
+
+    /**
+     * Keeps cached sections in sync with blocks that only exist on Bedrock, such as item frames.
+     */
+    public void updateBedrockBlock(int x, int y, int z, int bedrockId) {
+        if (!enabled) {
+            return;
+        }
+
+        setBlock(x, y, z, bedrockId, false);
+    }
+
+    private void setBlock(int x, int y, int z, int bedrockId, boolean waterlogged) {
+        Column column = columns.get(MathUtils.chunkPositionToLong(x >> 4, z >> 4));
+        if (column == null) {
+            return;
+        }
+
+        int sectionY = (y >> 4) - column.minSectionY;
+        if (sectionY < 0 || sectionY >= column.sections.length) {
+            return;
+        }
+
+        int airId = session.getBlockMappings().getBedrockAir().getRuntimeId();
+
+        GeyserChunkSection section = column.sections[sectionY];
+        int subChunkIndex = sectionY + column.minSectionY;
+        if (section == null) {
+            if (bedrockId == airId) {
+                return;
+            }
+            section = new GeyserChunkSection(airId, subChunkIndex);
+        } else {
+            BlockStorage[] layers = section.getBlockStorageArray();
+            IntList palette = layers[0].getPalette();
+            if (palette instanceof IntImmutableList || palette instanceof IntLists.Singleton) {
+                // Sections built straight from a singleton or immutable palette can't be modified in place
+                section = section.copy(subChunkIndex);
+            }
+            if (waterlogged && section.getBlockStorageArray().length < 2) {
+                BlockStorage[] expanded = new BlockStorage[] {section.getBlockStorageArray()[0], new BlockStorage(airId)};
+                section = new GeyserChunkSection(expanded, subChunkIndex);
+            }
+        }
+
+        section.setFullBlock(x & 0xF, y & 0xF, z & 0xF, 0, bedrockId);
+        if (section.getBlockStorageArray().length > 1) {
+            int layer1 = waterlogged ? session.getBlockMappings().getBedrockWater().getRuntimeId() : airId;
+            section.setFullBlock(x & 0xF, y & 0xF, z & 0xF, 1, layer1);
+        }
+        column.sections[sectionY] = section;
+
+        // Whatever block entity was here has been replaced
+        List<NbtMap> blockEntities = column.blockEntities[sectionY];
+        if (blockEntities != null) {
+            blockEntities.removeIf(tag -> tag.getInt("x") == x && tag.getInt("y") == y && tag.getInt("z") == z);
+        }
+        column.heightMap = null;
+    }
+
+    /**
+     * Keeps cached block entities in sync with block entity updates, so a section requested later shows the new data.
+     */
+    public void updateBlockEntity(int x, int y, int z, NbtMap blockEntity) {
+        if (!enabled) {
+            return;
+        }
+
+        Column column = columns.get(MathUtils.chunkPositionToLong(x >> 4, z >> 4));
+        if (column == null) {
+            return;
+        }
+
+        int sectionY = (y >> 4) - column.minSectionY;
+        if (sectionY < 0 || sectionY >= column.sections.length) {
+            return;
+        }
+
+        List<NbtMap> blockEntities = column.blockEntities[sectionY];
+        if (blockEntities == null) {
+            blockEntities = column.blockEntities[sectionY] = new ObjectArrayList<>();
+        } else {
+            blockEntities.removeIf(tag -> tag.getInt("x") == x && tag.getInt("y") == y && tag.getInt("z") == z);
+        }
+        blockEntities.add(blockEntity);
+    }
+
+    public void removeColumn(int chunkX, int chunkZ) {
+        if (!enabled) {
+            return;
+        }
+        columns.remove(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+    }
+
+    public void clear() {
+        if (!enabled) {
+            return;
+        }
+        columns.clear();
+    }
+
+    public static final class Column {
+        @Getter
+        private final int dimension;
+        @Getter
+        private final int minSectionY;
+        private final GeyserChunkSection[] sections;
+        private final List<NbtMap>[] blockEntities;
+        /**
+         * The Y of the highest non-air block per X/Z column, relative to the bottom of the dimension, or -1 if there are none.
+         * Lazily calculated since not every client request needs it.
+         */
+        private short[] heightMap;
+
+        private Column(int dimension, int minSectionY, GeyserChunkSection[] sections, List<NbtMap>[] blockEntities) {
+            this.dimension = dimension;
+            this.minSectionY = minSectionY;
+            this.sections = sections;
+            this.blockEntities = blockEntities;
+        }
+
+        /**
+         * @param sectionY the section index, starting from the bottom of the dimension
+         * @return the section, or null if it is out of bounds or only contains air
+         */
+        public @Nullable GeyserChunkSection section(int sectionY) {
+            if (sectionY < 0 || sectionY >= sections.length) {
+                return null;
+            }
+            GeyserChunkSection section = sections[sectionY];
+            if (section == null || section.isEmpty()) {
+                return null;
+            }
+            return section;
+        }
+
+        public @Nullable List<NbtMap> blockEntities(int sectionY) {
+            if (sectionY < 0 || sectionY >= blockEntities.length) {
+                return null;
+            }
+            return blockEntities[sectionY];
+        }
+
+        public int sectionCount() {
+            return sections.length;
+        }
+
+        /**
+         * @return the height map of this column, indexed by {@code (z << 4) | x}
+         */
+        public short[] heightMap(int airId) {
+            if (heightMap != null) {
+                return heightMap;
+            }
+
+            short[] heights = new short[256];
+            int remaining = heights.length;
+            Arrays.fill(heights, (short) -1);
+            for (int sectionY = sections.length - 1; sectionY >= 0 && remaining > 0; sectionY--) {
+                GeyserChunkSection section = sections[sectionY];
+                if (section == null || section.isEmpty()) {
+                    continue;
+                }
+                for (int index = 0; index < heights.length; index++) {
+                    if (heights[index] != -1) {
+                        continue;
+                    }
+                    int x = index & 0xF;
+                    int z = index >> 4;
+                    for (int y = 15; y >= 0; y--) {
+                        if (section.getFullBlock(x, y, z, 0) != airId) {
+                            heights[index] = (short) ((sectionY << 4) + y);
+                            remaining--;
+                            break;
+                        }
+                    }
+                }
+            }
+            return heightMap = heights;
+        }
+    }
+}
@@ -47,8 +47,6 @@ import org.geysermc.mcprotocollib.auth.GameProfile.Texture;
 import org.geysermc.mcprotocollib.auth.GameProfile.TextureType;
 import org.geysermc.mcprotocollib.protocol.data.game.entity.player.ResolvableProfile;
 
-import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -75,21 +73,14 @@ public class FakeHeadProvider {
                             ? SkinProvider.WEARING_CUSTOM_SKULL_SLIM : SkinProvider.WEARING_CUSTOM_SKULL;
 
                     Skin headSkin = SkinProvider.getOrDefault(
-                            SkinProvider.requestSkin(fakeHeadEntry.getEntity().uuid(), fakeHeadEntry.getFakeHeadSkinUrl(), false), SkinProvider.EMPTY_SKIN, 5);
-                    BufferedImage originalSkinImage = SkinProvider.imageDataToBufferedImage(skin.skinData(), 64, skin.skinData().length / 4 / 64);
-                    BufferedImage headSkinImage = SkinProvider.imageDataToBufferedImage(headSkin.skinData(), 64, headSkin.skinData().length / 4 / 64);
-
-                    Graphics2D graphics2D = originalSkinImage.createGraphics();
-                    graphics2D.setComposite(AlphaComposite.Clear);
-                    graphics2D.fillRect(0, 0, 64, 16);
-                    graphics2D.setComposite(AlphaComposite.SrcOver);
-                    graphics2D.drawImage(headSkinImage, 0, 0, 64, 16, 0, 0, 64, 16, null);
-                    graphics2D.dispose();
+                            SkinProvider.requestSkin(fakeHeadEntry.getEntity().uuid(), fakeHeadEntry.getFakeHeadSkinUrl()), SkinProvider.EMPTY_SKIN, 5);
+                    // Replace the head (the top 16 rows) of the original skin with the one from the head's skin
+                    byte[] targetSkinData = skin.skinData().clone();
+                    System.arraycopy(headSkin.skinData(), 0, targetSkinData, 0, 64 * 16 * 4);
 
                     // Make the skin key a combination of the current skin data and the new skin data
                     // Don't tie it to a player - that player *can* change skins in-game
                     String skinKey = "customPlayerHead_" + fakeHeadEntry.getFakeHeadSkinUrl() + "_" + skin.textureUrl();
-                    byte[] targetSkinData = SkinProvider.bufferedImageToImageData(originalSkinImage);
                     Skin mergedSkin = new Skin(skinKey, targetSkinData);
 
                     // Avoiding memory leak
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import io.netty.buffer.Unpooled;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.util.XXHash64;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores skin and cape images on disk as the raw RGBA bytes sent to Bedrock clients, so a cached image
+ * only needs to be read, not decoded and converted again.
+ * <p>
+ * Images are stored by the hash of their contents; an index file maps each texture URL to its image
+ * and is kept in memory.
+ */
+public final class SkinImageStore implements Closeable {
+    public static final String INDEX_FILE_NAME = "index.bin";
+    private static final String IMAGE_EXTENSION = ".rgba";
+    /**
+     * Images expire after days, so there is no need to mark them as used more often than this.
+     */
+    private static final long TOUCH_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    private final Path folder;
+    private final Path indexFile;
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    /**
+     * When each image file was last marked as used, by hash.
+     */
+    private final Map<Long, Long> lastTouched = new ConcurrentHashMap<>();
+    private @Nullable DataOutputStream indexWriter;
+
+    public SkinImageStore(Path folder) throws IOException {
+        this.folder = folder;
+        this.indexFile = folder.resolve(INDEX_FILE_NAME);
+        Files.createDirectories(folder);
+        loadIndex();
+    }
+
+    /**
+     * @return the cached image, or null if it has not been stored (or has since expired)
+     */
+    public @Nullable Image get(String url, boolean cape) {
+        Entry entry = index.get(key(url, cape));
+        if (entry == null) {
+            return null;
+        }
+
+        Path file = imageFile(entry.hash());
+        try {
+            byte[] data = Files.readAllBytes(file);
+            if (data.length != entry.width() * entry.height() * 4) {
+                index.remove(key(url, cape), entry);
+                return null;
+            }
+            touch(entry.hash(), file);
+            return new Image(data, entry.width(), entry.height());
+        } catch (IOException e) {
+            // Most likely removed by the expiry task
+            index.remove(key(url, cape), entry);
+            return null;
+        }
+    }
+
+    public void put(String url, boolean cape, byte[] data, int width, int height) throws IOException {
+        long hash = XXHash64.hash(Unpooled.wrappedBuffer(data));
+        Path file = imageFile(hash);
+        byte[] existing = readIfExists(file);
+        if (existing != null) {
+            if (!Arrays.equals(existing, data)) {
+                // Another image with the same hash; leave this one uncached rather than serve the wrong image
+                return;
+            }
+        } else {
+            // Written under a temporary name first so a partially written image is never read
+            Path temp = Files.createTempFile(folder, null, IMAGE_EXTENSION);
+            try {
+                Files.write(temp, data);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        Entry entry = new Entry(url, cape, hash, width, height);
+        synchronized (this) {
+            if (indexWriter == null) {
+                indexWriter = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(indexFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+            }
+            entry.write(indexWriter);
+            // A cut off entry is dropped on the next load, so there's no need to sync to disk
+            indexWriter.flush();
+        }
+        lastTouched.put(hash, System.currentTimeMillis());
+        index.put(key(url, cape), entry);
+    }
+
+    private static byte @Nullable [] readIfExists(Path file) throws IOException {
+        try {
+            return Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Keeps the image from expiring while it is still in use, without writing to the disk on every read.
+     */
+    private void touch(long hash, Path file) throws IOException {
+        long now = System.currentTimeMillis();
+        Long touched = lastTouched.get(hash);
+        if (touched != null && now - touched < TOUCH_INTERVAL) {
+            return;
+        }
+        lastTouched.put(hash, now);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (indexWriter != null) {
+            indexWriter.close();
+            indexWriter = null;
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        boolean dirty = false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            while (in.available() > 0) {
+                entries.add(Entry.read(in));
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (EOFException e) {
+            // An entry was cut off while it was being written
+            dirty = true;
+        }
+
+        for (Entry entry : entries) {
+            if (Files.exists(imageFile(entry.hash()))) {
+                Entry previous = index.put(key(entry.url(), entry.cape()), entry);
+                dirty |= previous != null;
+            } else {
+                dirty = true;
+            }
+        }
+
+        if (dirty) {
+            // Drop entries for expired images and replaced URLs, so the index doesn't grow forever
+            Path temp = Files.createTempFile(folder, null, ".bin");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    for (Entry entry : index.values()) {
+                        entry.write(out);
+                    }
+                }
+                Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    private Path imageFile(long hash) {
+        return folder.resolve(String.format("%016x", hash) + IMAGE_EXTENSION);
+    }
+
+    private static String key(String url, boolean cape) {
+        // Capes and skins are resized differently, so the same URL can have two images
+        return cape ? "cape:" + url : url;
+    }
+
+    public record Image(byte[] data, int width, int height) {
+    }
+
+    private record Entry(String url, boolean cape, long hash, int width, int height) {
+        static Entry read(DataInputStream in) throws IOException {
+            return new Entry(in.readUTF(), in.readBoolean(), in.readLong(), in.readUnsignedShort(), in.readUnsignedShort());
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeUTF(url);
+            out.writeBoolean(cape);
+            out.writeLong(hash);
+            out.writeShort(width);
+            out.writeShort(height);
+        }
+    }
+}
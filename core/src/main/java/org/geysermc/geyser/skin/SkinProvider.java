@@ -29,7 +29,6 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import it.unimi.dsi.fastutil.bytes.ByteArrays;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -45,22 +44,26 @@ import org.geysermc.geyser.api.skin.SkinGeometry;
 import org.geysermc.geyser.entity.type.player.AvatarEntity;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.util.CoalescingHttpClient;
 import org.geysermc.geyser.util.FileUtils;
+import org.geysermc.geyser.util.ImageUtils;
+import org.geysermc.geyser.util.LatencyHistogram;
 import org.geysermc.geyser.util.WebUtils;
 
 import javax.imageio.ImageIO;
-import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -69,6 +72,14 @@ import java.util.function.Predicate;
 
 public class SkinProvider {
     private static ExecutorService EXECUTOR_SERVICE;
+    private static CoalescingHttpClient HTTP_CLIENT;
+    private static final LatencyHistogram IMAGE_LATENCY = new LatencyHistogram();
+    /**
+     * Requests to one host beyond this wait for an earlier one to finish.
+     */
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+    private static SkinImageStore IMAGE_STORE;
+    private static boolean imageStoreLoaded;
 
     static final Skin EMPTY_SKIN;
     static final Cape EMPTY_CAPE = new Cape("", "no-cape", ByteArrays.EMPTY_ARRAY, true);
@@ -153,11 +164,58 @@ public class SkinProvider {
         return EXECUTOR_SERVICE;
     }
 
+    /**
+     * The client used to download skins and look up profiles. Exposed for its metrics.
+     */
+    public static synchronized CoalescingHttpClient getHttpClient() {
+        if (HTTP_CLIENT == null) {
+            HTTP_CLIENT = new CoalescingHttpClient(WebUtils.getUserAgent(), Duration.ofSeconds(10), MAX_REQUESTS_PER_HOST);
+        }
+        return HTTP_CLIENT;
+    }
+
+    /**
+     * @return how long skin and cape images took to load, whether from the disk cache or the internet
+     */
+    public static LatencyHistogram imageLatency() {
+        return IMAGE_LATENCY;
+    }
+
     public static void shutdown() {
         if (EXECUTOR_SERVICE != null) {
             EXECUTOR_SERVICE.shutdown();
             EXECUTOR_SERVICE = null;
         }
+        synchronized (SkinProvider.class) {
+            HTTP_CLIENT = null;
+            if (IMAGE_STORE != null) {
+                try {
+                    IMAGE_STORE.close();
+                } catch (IOException e) {
+                    GeyserImpl.getInstance().getLogger().error("Failed to close the cached image index", e);
+                }
+            }
+            IMAGE_STORE = null;
+            imageStoreLoaded = false;
+        }
+    }
+
+    /**
+     * @return the on-disk image cache, or null if images should not be cached
+     */
+    private static synchronized @Nullable SkinImageStore getImageStore() {
+        if (!imageStoreLoaded) {
+            imageStoreLoaded = true;
+            if (GeyserImpl.getInstance().config().advanced().cacheImages() > 0) {
+                Path folder = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images");
+                try {
+                    IMAGE_STORE = new SkinImageStore(folder);
+                } catch (IOException e) {
+                    GeyserImpl.getInstance().getLogger().error("Failed to load the cached image index in " + folder, e);
+                }
+            }
+        }
+        return IMAGE_STORE;
     }
 
     public static void registerCacheImageTask(GeyserImpl geyser) {
@@ -172,6 +230,9 @@ public class SkinProvider {
                 int count = 0;
                 final long expireTime = ((long) GeyserImpl.getInstance().config().advanced().cacheImages()) * ((long)1000 * 60 * 60 * 24);
                 for (File imageFile : Objects.requireNonNull(cacheFolder.listFiles())) {
+                    if (imageFile.getName().equals(SkinImageStore.INDEX_FILE_NAME)) {
+                        continue;
+                    }
                     if (imageFile.lastModified() < System.currentTimeMillis() - expireTime) {
                         //noinspection ResultOfMethodCallIgnored
                         imageFile.delete();
@@ -309,20 +370,23 @@ public class SkinProvider {
     }
 
     private static CompletableFuture<SkinAndCape> requestSkinAndCape(UUID playerId, String skinUrl, String capeUrl) {
-        return CompletableFuture.supplyAsync(() -> {
-            long time = System.currentTimeMillis();
+        long time = System.currentTimeMillis();
 
-            SkinAndCape skinAndCape = new SkinAndCape(
-                    getOrDefault(requestSkin(playerId, skinUrl, false), EMPTY_SKIN, 5),
-                    getOrDefault(requestCape(capeUrl, false), EMPTY_CAPE, 5)
-            );
+        // Copied, as the requests may be shared with other players that should not see our timeout
+        CompletableFuture<Skin> skin = requestSkin(playerId, skinUrl).copy()
+            .completeOnTimeout(EMPTY_SKIN, 5, TimeUnit.SECONDS)
+            .exceptionally($ -> EMPTY_SKIN);
+        CompletableFuture<Cape> cape = requestCape(capeUrl).copy()
+            .completeOnTimeout(EMPTY_CAPE, 5, TimeUnit.SECONDS)
+            .exceptionally($ -> EMPTY_CAPE);
 
+        return skin.thenCombine(cape, (requestedSkin, requestedCape) -> {
             GeyserImpl.getInstance().getLogger().debug("Took " + (System.currentTimeMillis() - time) + "ms for " + playerId);
-            return skinAndCape;
-        }, getExecutorService());
+            return new SkinAndCape(requestedSkin, requestedCape);
+        });
     }
 
-    static CompletableFuture<Skin> requestSkin(UUID playerId, String textureUrl, boolean newThread) {
+    static CompletableFuture<Skin> requestSkin(UUID playerId, String textureUrl) {
         if (textureUrl == null || textureUrl.isEmpty()) return CompletableFuture.completedFuture(EMPTY_SKIN);
         CompletableFuture<Skin> requestedSkin = requestedSkins.get(textureUrl);
         if (requestedSkin != null) {
@@ -335,23 +399,16 @@ public class SkinProvider {
             return CompletableFuture.completedFuture(cachedSkin);
         }
 
-        CompletableFuture<Skin> future;
-        if (newThread) {
-            future = CompletableFuture.supplyAsync(() -> supplySkin(playerId, textureUrl), getExecutorService())
-                    .whenCompleteAsync((skin, throwable) -> {
-                        CACHED_JAVA_SKINS.put(textureUrl, skin);
-                        requestedSkins.remove(textureUrl);
-                    });
-            requestedSkins.put(textureUrl, future);
-        } else {
-            Skin skin = supplySkin(playerId, textureUrl);
-            future = CompletableFuture.completedFuture(skin);
+        CompletableFuture<Skin> future = supplySkin(playerId, textureUrl);
+        requestedSkins.put(textureUrl, future);
+        future.whenComplete((skin, throwable) -> {
             CACHED_JAVA_SKINS.put(textureUrl, skin);
-        }
+            requestedSkins.remove(textureUrl, future);
+        });
         return future;
     }
 
-    private static CompletableFuture<Cape> requestCape(String capeUrl, boolean newThread) {
+    private static CompletableFuture<Cape> requestCape(String capeUrl) {
         if (capeUrl == null || capeUrl.isEmpty()) return CompletableFuture.completedFuture(EMPTY_CAPE);
         CompletableFuture<Cape> requestedCape = requestedCapes.get(capeUrl);
         if (requestedCape != null) {
@@ -363,19 +420,12 @@ public class SkinProvider {
             return CompletableFuture.completedFuture(cachedCape);
         }
 
-        CompletableFuture<Cape> future;
-        if (newThread) {
-            future = CompletableFuture.supplyAsync(() -> supplyCape(capeUrl), getExecutorService())
-                    .whenCompleteAsync((cape, throwable) -> {
-                        CACHED_JAVA_CAPES.put(capeUrl, cape);
-                        requestedCapes.remove(capeUrl);
-                    });
-            requestedCapes.put(capeUrl, future);
-        } else {
-            Cape cape = supplyCape(capeUrl); // blocking
-            future = CompletableFuture.completedFuture(cape);
+        CompletableFuture<Cape> future = supplyCape(capeUrl);
+        requestedCapes.put(capeUrl, future);
+        future.whenComplete((cape, throwable) -> {
             CACHED_JAVA_CAPES.put(capeUrl, cape);
-        }
+            requestedCapes.remove(capeUrl, future);
+        });
         return future;
     }
 
@@ -394,88 +444,113 @@ public class SkinProvider {
         cachedGeometry.put(playerID, geometry);
     }
 
-    private static Skin supplySkin(UUID uuid, String textureUrl) {
-        try {
-            byte[] skin = requestImageData(textureUrl, false);
-            return new Skin(textureUrl, skin);
-        } catch (Exception ignored) {} // just ignore I guess
-
-        return new Skin("empty", EMPTY_SKIN.skinData(), true);
+    private static CompletableFuture<Skin> supplySkin(UUID uuid, String textureUrl) {
+        return requestImageData(textureUrl, false)
+            .thenApply(skin -> new Skin(textureUrl, skin))
+            .exceptionally($ -> new Skin("empty", EMPTY_SKIN.skinData(), true)); // just ignore I guess
     }
 
-    private static Cape supplyCape(String capeUrl) {
-        byte[] cape = EMPTY_CAPE.capeData();
-        try {
-            cape = requestImageData(capeUrl, true);
-        } catch (Exception ignored) {
-        } // just ignore I guess
-
+    private static CompletableFuture<Cape> supplyCape(String capeUrl) {
         String[] urlSection = capeUrl.split("/"); // A real url is expected at this stage
 
-        return new Cape(
+        return requestImageData(capeUrl, true)
+            .exceptionally($ -> EMPTY_CAPE.capeData()) // just ignore I guess
+            .thenApply(cape -> new Cape(
                 capeUrl,
                 urlSection[urlSection.length - 1], // get the texture id and use it as cape id
                 cape,
                 cape.length == 0
-        );
+            ));
     }
 
-    @SuppressWarnings("ResultOfMethodCallIgnored")
-    public static BufferedImage requestImage(String imageUrl, boolean isCape) throws IOException {
-        BufferedImage image = null;
-
-        // First see if we have a cached file. We also update the modification stamp so we know when the file was last used
-        File imageFile = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("images").resolve(UUID.nameUUIDFromBytes(imageUrl.getBytes()) + ".png").toFile();
-        if (imageFile.exists()) {
-            try {
-                GeyserImpl.getInstance().getLogger().debug("Reading cached image from file " + imageFile.getPath() + " for " + imageUrl);
-                imageFile.setLastModified(System.currentTimeMillis());
-                image = ImageIO.read(imageFile);
-            } catch (IOException ignored) {}
-        }
+    public static CompletableFuture<BufferedImage> requestImage(String imageUrl, boolean isCape) {
+        return CompletableFuture.supplyAsync(() -> getCachedImage(imageUrl, isCape), getExecutorService())
+            .thenCompose(cached -> {
+                if (cached != null) {
+                    return CompletableFuture.completedFuture(imageDataToBufferedImage(cached.data(), cached.width(), cached.height()));
+                }
 
-        // If no image we download it
-        if (image == null) {
-            image = downloadImage(imageUrl);
-            GeyserImpl.getInstance().getLogger().debug("Downloaded " + imageUrl);
+                return getHttpClient().get(imageUrl).thenApplyAsync(body -> {
+                    try {
+                        BufferedImage image = resizeImage(readImage(imageUrl, body), isCape);
+                        storeImage(imageUrl, isCape, bufferedImageToImageData(image), image);
+                        return image;
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, getExecutorService());
+            });
+    }
 
-            // Write to cache if we are allowed
-            if (GeyserImpl.getInstance().config().advanced().cacheImages() > 0) {
-                imageFile.getParentFile().mkdirs();
-                try {
-                    ImageIO.write(image, "png", imageFile);
-                    GeyserImpl.getInstance().getLogger().debug("Writing cached skin to file " + imageFile.getPath() + " for " + imageUrl);
-                } catch (IOException e) {
-                    GeyserImpl.getInstance().getLogger().error("Failed to write cached skin to file " + imageFile.getPath() + " for " + imageUrl);
+    private static CompletableFuture<byte[]> requestImageData(String imageUrl, boolean isCape) {
+        long start = System.nanoTime();
+        // A cached image is already in the format Bedrock wants, so there's nothing to decode
+        return CompletableFuture.supplyAsync(() -> getCachedImage(imageUrl, isCape), getExecutorService())
+            .thenCompose(cached -> {
+                if (cached != null) {
+                    GeyserImpl.getInstance().getLogger().debug("Read cached image for " + imageUrl);
+                    return CompletableFuture.completedFuture(cached.data());
                 }
-            }
+
+                return getHttpClient().get(imageUrl).thenApplyAsync(body -> {
+                    try {
+                        BufferedImage image = resizeImage(readImage(imageUrl, body), isCape);
+                        byte[] data = bufferedImageToImageData(image);
+                        storeImage(imageUrl, isCape, data, image);
+                        image.flush();
+                        return data;
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, getExecutorService());
+            })
+            .whenComplete((data, throwable) -> IMAGE_LATENCY.record(System.nanoTime() - start));
+    }
+
+    private static SkinImageStore.@Nullable Image getCachedImage(String imageUrl, boolean isCape) {
+        SkinImageStore store = getImageStore();
+        return store == null ? null : store.get(imageUrl, isCape);
+    }
+
+    private static void storeImage(String imageUrl, boolean isCape, byte[] data, BufferedImage image) {
+        SkinImageStore store = getImageStore();
+        if (store == null) {
+            return;
+        }
+        try {
+            store.put(imageUrl, isCape, data, image.getWidth(), image.getHeight());
+            GeyserImpl.getInstance().getLogger().debug("Cached image for " + imageUrl);
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().error("Failed to cache image for " + imageUrl, e);
         }
+    }
+
+    /**
+     * Resizes the image to a size Bedrock will accept.
+     */
+    private static BufferedImage resizeImage(BufferedImage image, boolean isCape) {
+        int width = image.getWidth();
+        int height = image.getHeight();
 
         // if the requested image is a cape
         if (isCape) {
-            if (image.getWidth() > 64 || image.getHeight() > 32) {
+            if (width > 64 || height > 32) {
                 // Prevent weirdly-scaled capes from being cut off
-                BufferedImage newImage = new BufferedImage(128, 64, BufferedImage.TYPE_INT_ARGB);
-                Graphics g = newImage.createGraphics();
-                g.drawImage(image, 0, 0, image.getWidth(), image.getHeight(), null);
-                g.dispose();
+                int[] canvas = ImageUtils.pad(ImageUtils.toArgb(image), width, height, 128, 64, null);
                 image.flush();
-                image = scale(newImage, 64, 32);
-            } else if (image.getWidth() < 64 || image.getHeight() < 32) {
+                return ImageUtils.fromArgb(ImageUtils.scaleBilinear(canvas, 128, 64, 64, 32, null), 64, 32);
+            } else if (width < 64 || height < 32) {
                 // Bedrock doesn't like smaller-sized capes, either.
-                BufferedImage newImage = new BufferedImage(64, 32, BufferedImage.TYPE_INT_ARGB);
-                Graphics g = newImage.createGraphics();
-                g.drawImage(image, 0, 0, image.getWidth(), image.getHeight(), null);
-                g.dispose();
+                int[] canvas = ImageUtils.pad(ImageUtils.toArgb(image), width, height, 64, 32, null);
                 image.flush();
-                image = newImage;
+                return ImageUtils.fromArgb(canvas, 64, 32);
             }
         } else {
             // Very rarely, skins can be larger than Minecraft's default.
             // Bedrock will not render anything above a width of 128.
-            if (image.getWidth() > 128) {
+            if (width > 128) {
                 // On Height: Scale by the amount we divided width by, or simply cut down to 128
-                image = scale(image, 128, image.getHeight() >= 256 ? (image.getHeight() / (image.getWidth() / 128)) : 128);
+                return scale(image, 128, height >= 256 ? (height / (width / 128)) : 128);
             }
 
             // TODO remove alpha channel
@@ -484,13 +559,6 @@ public class SkinProvider {
         return image;
     }
 
-    private static byte[] requestImageData(String imageUrl, boolean isCape) throws Exception {
-        BufferedImage image = requestImage(imageUrl, isCape);
-        byte[] data = bufferedImageToImageData(image);
-        image.flush();
-        return data;
-    }
-
     public static @Nullable String shorthandUUID(@Nullable UUID uuid) {
         if (uuid == null) {
             return null;
@@ -516,22 +584,16 @@ public class SkinProvider {
      * @return a completable username of the player
      */
     public static CompletableFuture<@Nullable String> requestUsernameFromUUID(UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                JsonObject node = WebUtils.getJson("https://api.minecraftservices.com/minecraft/profile/lookup/" + shorthandUUID(uuid));
+        return getHttpClient().getJson("https://api.minecraftservices.com/minecraft/profile/lookup/" + shorthandUUID(uuid))
+            .thenApply(node -> {
                 JsonElement name = node.get("name");
                 if (name == null) {
                     GeyserImpl.getInstance().getLogger().debug("No username found in Mojang response for " + uuid);
                     return null;
                 }
                 return name.getAsString();
-            } catch (Exception e) {
-                if (GeyserImpl.getInstance().config().debugMode()) {
-                    e.printStackTrace();
-                }
-                return null;
-            }
-        }, getExecutorService());
+            })
+            .exceptionally(SkinProvider::profileLookupFailed);
     }
 
     /**
@@ -541,22 +603,16 @@ public class SkinProvider {
      * @return a completable UUID of the player
      */
     public static CompletableFuture<@Nullable UUID> requestUUIDFromUsername(String username) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                JsonObject node = WebUtils.getJson("https://api.mojang.com/users/profiles/minecraft/" + username);
+        return getHttpClient().getJson("https://api.mojang.com/users/profiles/minecraft/" + username)
+            .thenApply(node -> {
                 JsonElement id = node.get("id");
                 if (id == null) {
                     GeyserImpl.getInstance().getLogger().debug("No UUID found in Mojang response for " + username);
                     return null;
                 }
                 return expandUUID(id.getAsString());
-            } catch (Exception e) {
-                if (GeyserImpl.getInstance().config().debugMode()) {
-                    e.printStackTrace();
-                }
-                return null;
-            }
-        }, getExecutorService());
+            })
+            .exceptionally(SkinProvider::profileLookupFailed);
     }
 
     /**
@@ -566,23 +622,26 @@ public class SkinProvider {
      * @return a completable GameProfile with textures included
      */
     public static CompletableFuture<@Nullable String> requestTexturesFromUUID(UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                JsonObject node = WebUtils.getJson("https://sessionserver.mojang.com/session/minecraft/profile/" + shorthandUUID(uuid));
+        return getHttpClient().getJson("https://sessionserver.mojang.com/session/minecraft/profile/" + shorthandUUID(uuid))
+            .thenApply(node -> {
                 JsonArray properties = node.getAsJsonArray("properties");
                 if (properties == null) {
                     GeyserImpl.getInstance().getLogger().debug("No properties found in Mojang response for " + uuid);
                     return null;
                 }
                 return properties.get(0).getAsJsonObject().get("value").getAsString();
-            } catch (Exception e) {
+            })
+            .exceptionally(throwable -> {
                 GeyserImpl.getInstance().getLogger().debug("Unable to request textures for " + uuid);
-                if (GeyserImpl.getInstance().config().debugMode()) {
-                    e.printStackTrace();
-                }
-                return null;
-            }
-        }, getExecutorService());
+                return profileLookupFailed(throwable);
+            });
+    }
+
+    private static <T> @Nullable T profileLookupFailed(Throwable throwable) {
+        if (GeyserImpl.getInstance().config().debugMode()) {
+            throwable.printStackTrace();
+        }
+        return null;
     }
 
     /**
@@ -601,13 +660,9 @@ public class SkinProvider {
             });
     }
 
-    private static BufferedImage downloadImage(String imageUrl) throws IOException {
-        HttpURLConnection con = (HttpURLConnection) new URL(imageUrl).openConnection();
-        con.setRequestProperty("User-Agent", WebUtils.getUserAgent());
-        con.setConnectTimeout(10000);
-        con.setReadTimeout(10000);
-
-        BufferedImage image = ImageIO.read(con.getInputStream());
+    private static BufferedImage readImage(String imageUrl, byte[] body) throws IOException {
+        GeyserImpl.getInstance().getLogger().debug("Downloaded " + imageUrl);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(body));
 
         if (image == null) {
             throw new IllegalArgumentException("Failed to read image from: %s".formatted(imageUrl));
@@ -616,25 +671,9 @@ public class SkinProvider {
     }
 
     public static BufferedImage scale(BufferedImage bufferedImage, int newWidth, int newHeight) {
-        BufferedImage resized = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = resized.createGraphics();
-        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g2.drawImage(bufferedImage, 0, 0, newWidth, newHeight, null);
-        g2.dispose();
+        int[] scaled = ImageUtils.scaleBilinear(ImageUtils.toArgb(bufferedImage), bufferedImage.getWidth(), bufferedImage.getHeight(), newWidth, newHeight, null);
         bufferedImage.flush();
-        return resized;
-    }
-
-    /**
-     * Get the RGBA int for a given index in some image data
-     *
-     * @param index Index to get
-     * @param data Image data to find in
-     * @return An int representing RGBA
-     */
-    private static int getRGBA(int index, byte[] data) {
-        return (data[index] & 0xFF) << 16 | (data[index + 1] & 0xFF) << 8 |
-                data[index + 2] & 0xFF | (data[index + 3] & 0xFF) << 24;
+        return ImageUtils.fromArgb(scaled, newWidth, newHeight);
     }
 
     /**
@@ -646,16 +685,7 @@ public class SkinProvider {
      * @return The converted BufferedImage
      */
     public static BufferedImage imageDataToBufferedImage(byte[] imageData, int imageWidth, int imageHeight) {
-        BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
-        int index = 0;
-        for (int y = 0; y < imageHeight; y++) {
-            for (int x = 0; x < imageWidth; x++) {
-                image.setRGB(x, y, getRGBA(index, imageData));
-                index += 4;
-            }
-        }
-
-        return image;
+        return ImageUtils.fromRgba(imageData, imageWidth, imageHeight);
     }
 
     /**
@@ -665,17 +695,7 @@ public class SkinProvider {
      * @return The converted byte[]
      */
     public static byte[] bufferedImageToImageData(BufferedImage image) {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(image.getWidth() * 4 + image.getHeight() * 4);
-        for (int y = 0; y < image.getHeight(); y++) {
-            for (int x = 0; x < image.getWidth(); x++) {
-                int rgba = image.getRGB(x, y);
-                outputStream.write((rgba >> 16) & 0xFF);
-                outputStream.write((rgba >> 8) & 0xFF);
-                outputStream.write(rgba & 0xFF);
-                outputStream.write((rgba >> 24) & 0xFF);
-            }
-        }
-        return outputStream.toByteArray();
+        return ImageUtils.toRgba(image);
     }
 
     public static <T> T getOrDefault(CompletableFuture<T> future, T defaultValue, int timeoutInSeconds) {
@@ -63,7 +63,7 @@ public class SkullSkinManager extends SkinManager {
             }
         };
 
-        SkinProvider.requestSkin(entity.uuid(), entity.getSkinUrl(), true)
+        SkinProvider.requestSkin(entity.uuid(), entity.getSkinUrl())
             .whenCompleteAsync(applySkin);
     }
 
@@ -29,6 +29,8 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.translator.item.ItemTranslationCache;
+import org.geysermc.geyser.translator.text.MessageTranslator;
 import org.geysermc.geyser.util.AssetUtils;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.JsonUtils;
@@ -178,6 +180,9 @@ public class MinecraftLocale {
 
         if (!langMap.isEmpty()) {
             LOCALE_MAPPINGS.put(lowercaseLocale, langMap);
+            // Messages converted before this locale was loaded fell back to the keys or to English
+            MessageTranslator.invalidateCache();
+            ItemTranslationCache.invalidate();
             return true;
         } else {
             return false;
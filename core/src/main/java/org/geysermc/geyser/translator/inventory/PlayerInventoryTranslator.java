@@ -87,8 +87,6 @@ public class PlayerInventoryTranslator extends InventoryTranslator<PlayerInvento
     public void updateInventory(GeyserSession session, PlayerInventory inventory) {
         updateCraftingGrid(session, inventory);
 
-        InventoryContentPacket inventoryContentPacket = new InventoryContentPacket();
-        inventoryContentPacket.setContainerId(ContainerId.INVENTORY);
         ItemData[] contents = new ItemData[36];
         // Inventory
         for (int i = 9; i < 36; i++) {
@@ -98,12 +96,9 @@ public class PlayerInventoryTranslator extends InventoryTranslator<PlayerInvento
         for (int i = 36; i < 45; i++) {
             contents[i - 36] = inventory.getItem(i).getItemData(session);
         }
-        inventoryContentPacket.setContents(Arrays.asList(contents));
-        session.sendUpstreamPacket(inventoryContentPacket);
+        session.getInventoryContentCache().sendContents(ContainerId.INVENTORY, Arrays.asList(contents));
 
         // Armor
-        InventoryContentPacket armorContentPacket = new InventoryContentPacket();
-        armorContentPacket.setContainerId(ContainerId.ARMOR);
         contents = new ItemData[4];
         for (int i = 5; i < 9; i++) {
             GeyserItemStack item = inventory.getItem(i);
@@ -112,8 +107,7 @@ public class PlayerInventoryTranslator extends InventoryTranslator<PlayerInvento
                 FakeHeadProvider.setHead(session, session.getPlayerEntity(), item.getComponent(DataComponentTypes.PROFILE));
             }
         }
-        armorContentPacket.setContents(Arrays.asList(contents));
-        session.sendUpstreamPacket(armorContentPacket);
+        session.getInventoryContentCache().sendContents(ContainerId.ARMOR, Arrays.asList(contents));
 
         // Offhand
         InventoryContentPacket offhandPacket = new InventoryContentPacket();
@@ -29,7 +29,6 @@ import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerId;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerSlotType;
 import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
 import org.cloudburstmc.protocol.bedrock.data.inventory.itemstack.request.ItemStackRequestSlotData;
-import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
 import org.geysermc.geyser.inventory.BedrockContainerSlot;
 import org.geysermc.geyser.inventory.Container;
 import org.geysermc.geyser.session.GeyserSession;
@@ -91,10 +90,7 @@ public abstract class ChestedHorseInventoryTranslator extends AbstractMountInven
             final int offset = i < 9 ? 27 : -9;
             bedrockItems[i] = container.getItem(this.size + i + offset).getItemData(session);
         }
-        InventoryContentPacket contentPacket = new InventoryContentPacket();
-        contentPacket.setContainerId(ContainerId.INVENTORY);
-        contentPacket.setContents(Arrays.asList(bedrockItems));
-        session.sendUpstreamPacket(contentPacket);
+        session.getInventoryContentCache().sendContents(ContainerId.INVENTORY, Arrays.asList(bedrockItems));
 
         ItemData[] horseItems = new ItemData[chestSize + 1];
         // Manually specify the first slot - Java always has two slots (armor and saddle) and one is invisible.
@@ -104,9 +100,6 @@ public abstract class ChestedHorseInventoryTranslator extends AbstractMountInven
             horseItems[i] = container.getItem(i + 1).getItemData(session);
         }
 
-        InventoryContentPacket horseContentsPacket = new InventoryContentPacket();
-        horseContentsPacket.setContainerId(container.getBedrockId());
-        horseContentsPacket.setContents(Arrays.asList(horseItems));
-        session.sendUpstreamPacket(horseContentsPacket);
+        session.getInventoryContentCache().sendContents(container.getBedrockId(), Arrays.asList(horseItems));
     }
 }
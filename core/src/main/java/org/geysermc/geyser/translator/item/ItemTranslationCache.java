@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.item;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
+import org.geysermc.geyser.item.Items;
+import org.geysermc.geyser.item.type.CompassItem;
+import org.geysermc.geyser.item.type.Item;
+import org.geysermc.geyser.item.type.NonVanillaItem;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.geyser.registry.type.ItemMapping;
+import org.geysermc.geyser.registry.type.ItemMappings;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.ItemAttributeModifiers;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Shares translated items between sessions, so a stack that many players see is only translated once.
+ * <p>
+ * An item is translated the same way for every session with the same mappings, locale, tooltip setting and registries,
+ * so those make up the key along with the item and its components. Weapons also show the attack damage and speed
+ * of the player, so these are part of the key for them. The count is not part of the key; it is
+ * stamped onto a copy of the cached item instead, along with anything else, such as the net ID, that the caller sets.
+ */
+public final class ItemTranslationCache {
+    private static final Cache<Key, ItemData> CACHE = CacheBuilder.newBuilder()
+        .maximumSize(Integer.getInteger("Geyser.ItemTranslationCacheSize", 4096))
+        .expireAfterAccess(5, TimeUnit.MINUTES)
+        .recordStats()
+        .build();
+
+    private ItemTranslationCache() {
+    }
+
+    static ItemData.Builder translate(GeyserSession session, Item javaItem, ItemMapping bedrockItem, int count,
+                                      @Nullable DataComponents components, Supplier<ItemData.Builder> translator) {
+        if (!isCacheable(javaItem, bedrockItem, count)) {
+            return translator.get();
+        }
+
+        float attackDamage = 0;
+        double attackSpeed = 0;
+        if (hasBaseAttackModifiers(session, javaItem, components)) {
+            attackDamage = session.getPlayerEntity().attributeOrDefault(GeyserAttributeType.ATTACK_DAMAGE);
+            attackSpeed = session.getAttackSpeed();
+        }
+
+        Key key = new Key(session.getItemMappings(), session.getBlockMappings(), javaItem.javaId(), components,
+            session.locale(), session.isAdvancedTooltips(), session.getRegistryCache().fingerprint(), attackDamage, attackSpeed);
+        ItemData cached = CACHE.getIfPresent(key);
+        if (cached != null) {
+            return cached.toBuilder().count(count);
+        }
+
+        ItemData.Builder builder = translator.get();
+        // Components are changed in place by inventory actions, so the key must not share them
+        CACHE.put(key.withComponents(components == null ? null : components.clone()), builder.build());
+        return builder;
+    }
+
+    /**
+     * Some items are translated with state that only one session has, or that changes over time.
+     */
+    private static boolean isCacheable(Item javaItem, ItemMapping bedrockItem, int count) {
+        if (count <= 0) {
+            return false;
+        }
+        if (bedrockItem.getCustomItemDefinitions() != null) {
+            // Custom item predicates can depend on the count and on the player
+            return false;
+        }
+        if (javaItem instanceof NonVanillaItem) {
+            // Components are resolved per session
+            return false;
+        }
+        // Lodestone compasses are tracked per session, and player head skins are resolved asynchronously
+        return !(javaItem instanceof CompassItem) && javaItem != Items.PLAYER_HEAD;
+    }
+
+    /**
+     * The lore of these modifiers adds the attack damage or speed of the player to them.
+     */
+    private static boolean hasBaseAttackModifiers(GeyserSession session, Item javaItem, @Nullable DataComponents components) {
+        ItemAttributeModifiers modifiers = components == null ? null : components.get(DataComponentTypes.ATTRIBUTE_MODIFIERS);
+        if (modifiers == null) {
+            modifiers = javaItem.getComponent(session.getComponentCache(), DataComponentTypes.ATTRIBUTE_MODIFIERS);
+            if (modifiers == null) {
+                return false;
+            }
+        }
+
+        for (ItemAttributeModifiers.Entry entry : modifiers.getModifiers()) {
+            if (entry.getModifier().getId().equals(ItemTranslator.BASE_ATTACK_DAMAGE_ID)
+                || entry.getModifier().getId().equals(ItemTranslator.BASE_ATTACK_SPEED_ID)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forgets every translated item, for when the translations they were made with have changed.
+     */
+    public static void invalidate() {
+        CACHE.invalidateAll();
+    }
+
+    public static CacheStats stats() {
+        return CACHE.stats();
+    }
+
+    public static long size() {
+        return CACHE.size();
+    }
+
+    private record Key(ItemMappings itemMappings, BlockMappings blockMappings, int javaId, @Nullable DataComponents components,
+                       String locale, boolean advancedTooltips, long registryFingerprint, float attackDamage, double attackSpeed) {
+        // Mappings are shared by every session on the same version, so they are compared by identity
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Key other
+                && itemMappings == other.itemMappings
+                && blockMappings == other.blockMappings
+                && javaId == other.javaId
+                && advancedTooltips == other.advancedTooltips
+                && registryFingerprint == other.registryFingerprint
+                && Float.compare(attackDamage, other.attackDamage) == 0
+                && Double.compare(attackSpeed, other.attackSpeed) == 0
+                && locale.equals(other.locale)
+                && Objects.equals(components, other.components);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(itemMappings);
+            result = 31 * result + javaId;
+            result = 31 * result + locale.hashCode();
+            result = 31 * result + Boolean.hashCode(advancedTooltips);
+            result = 31 * result + Long.hashCode(registryFingerprint);
+            result = 31 * result + Float.hashCode(attackDamage);
+            result = 31 * result + Double.hashCode(attackSpeed);
+            result = 31 * result + (components == null ? 0 : components.hashCode());
+            return result;
+        }
+
+        Key withComponents(@Nullable DataComponents components) {
+            return new Key(itemMappings, blockMappings, javaId, components, locale, advancedTooltips, registryFingerprint,
+                attackDamage, attackSpeed);
+        }
+    }
+}
@@ -97,8 +97,8 @@ public final class ItemTranslator {
         ItemAttributeModifiers.EquipmentSlotGroup.FEET
     };
     private static final DecimalFormat ATTRIBUTE_FORMAT = new DecimalFormat("0.#####");
-    private static final Key BASE_ATTACK_DAMAGE_ID = MinecraftKey.key("base_attack_damage");
-    private static final Key BASE_ATTACK_SPEED_ID = MinecraftKey.key("base_attack_speed");
+    static final Key BASE_ATTACK_DAMAGE_ID = MinecraftKey.key("base_attack_damage");
+    static final Key BASE_ATTACK_SPEED_ID = MinecraftKey.key("base_attack_speed");
 
     static {
         // Maps slot groups to their respective translation names, ordered in their Java edition order in the item tooltip
@@ -185,6 +185,11 @@ public final class ItemTranslator {
     }
 
     public static ItemData.@NonNull Builder translateToBedrock(GeyserSession session, Item javaItem, ItemMapping bedrockItem, int count, @Nullable DataComponents customComponents) {
+        return ItemTranslationCache.translate(session, javaItem, bedrockItem, count, customComponents,
+            () -> translateToBedrock0(session, javaItem, bedrockItem, count, customComponents));
+    }
+
+    private static ItemData.@NonNull Builder translateToBedrock0(GeyserSession session, Item javaItem, ItemMapping bedrockItem, int count, @Nullable DataComponents customComponents) {
         BedrockItemBuilder nbtBuilder = new BedrockItemBuilder();
 
         // Populates default components that aren't sent over the network
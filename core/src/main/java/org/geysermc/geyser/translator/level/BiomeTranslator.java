@@ -51,14 +51,29 @@ public class BiomeTranslator {
         return Registries.BIOME_IDENTIFIERS.get().getOrDefault(javaIdentifier, 0);
     }
 
-    public static BlockStorage toNewBedrockBiome(GeyserSession session, DataPalette biomeData) {
+    /**
+     * Copies the Bedrock biome IDs of the session's Java biome registry, indexed by Java biome ID. The copy can be used
+     * away from the event loop, as the registry itself may change.
+     */
+    public static int[] bedrockBiomeIds(GeyserSession session) {
         JavaRegistry<Integer> biomeTranslations = session.getRegistryCache().registry(JavaRegistries.BIOME);
+        int[] bedrockBiomeIds = new int[biomeTranslations.size()];
+        for (int i = 0; i < bedrockBiomeIds.length; i++) {
+            bedrockBiomeIds[i] = biomeTranslations.byId(i);
+        }
+        return bedrockBiomeIds;
+    }
+
+    /**
+     * @param bedrockBiomeIds the Bedrock biome IDs by Java biome ID, from {@link #bedrockBiomeIds(GeyserSession)}
+     */
+    public static BlockStorage toNewBedrockBiome(int[] bedrockBiomeIds, DataPalette biomeData) {
         // As of 1.17.10: the client expects the same format as a chunk but filled with biomes
         // As of 1.18 this is the same as Java Edition
 
         Palette palette = biomeData.getPalette();
         if (palette instanceof SingletonPalette) {
-            int biomeId = biomeTranslations.byId(palette.idToState(0));
+            int biomeId = bedrockBiomeIds[palette.idToState(0)];
             return new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(biomeId));
         } else {
             BlockStorage storage;
@@ -73,7 +88,7 @@ public class BiomeTranslator {
 
                 for (int i = 0; i < size; i++) {
                     int javaId = palette.idToState(i);
-                    bedrockPalette.add(biomeTranslations.byId(javaId).intValue());
+                    bedrockPalette.add(bedrockBiomeIds[javaId]);
                 }
 
                 // Each section of biome corresponding to a chunk section contains 4 * 4 * 4 entries
@@ -98,7 +113,7 @@ public class BiomeTranslator {
                     int y = (i >> 4) & 3;
                     int z = (i >> 2) & 3;
                     // Get the Bedrock biome ID override
-                    int biomeId = biomeTranslations.byId(javaId);
+                    int biomeId = bedrockBiomeIds[javaId];
                     int idx = storage.idFor(biomeId);
                     // Convert biome coordinates into block coordinates
                     // Bedrock expects a full 4096 blocks
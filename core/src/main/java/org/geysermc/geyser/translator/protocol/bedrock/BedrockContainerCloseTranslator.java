@@ -43,6 +43,7 @@ public class BedrockContainerCloseTranslator extends PacketTranslator<ContainerC
     public void translate(GeyserSession session, ContainerClosePacket packet) {
         GeyserImpl.getInstance().getLogger().debug(session, packet.toString());
         byte bedrockId = packet.getId();
+        session.getInventoryContentCache().invalidate();
 
         //Client wants close confirmation
         session.sendUpstreamPacket(packet);
@@ -101,6 +101,9 @@ public class BedrockInventoryTransactionTranslator extends PacketTranslator<Inve
 
     @Override
     public void translate(GeyserSession session, InventoryTransactionPacket packet) {
+        // Using or dropping items is predicted by the client
+        session.getInventoryContentCache().invalidate();
+
         if (packet.getTransactionType() == InventoryTransactionType.NORMAL && packet.getActions().size() == 3) {
             InventoryActionData containerAction = packet.getActions().get(0);
             if (containerAction.getSource().getType() == InventorySource.Type.CONTAINER &&
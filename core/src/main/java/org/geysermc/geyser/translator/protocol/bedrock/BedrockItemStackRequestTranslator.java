@@ -39,6 +39,9 @@ public class BedrockItemStackRequestTranslator extends PacketTranslator<ItemStac
 
     @Override
     public void translate(GeyserSession session, ItemStackRequestPacket packet) {
+        // The client has already applied these requests itself; whatever we send next must not be skipped
+        session.getInventoryContentCache().invalidate();
+
         InventoryHolder<?> holder = session.getInventoryHolder();
         if (holder == null)
             return;
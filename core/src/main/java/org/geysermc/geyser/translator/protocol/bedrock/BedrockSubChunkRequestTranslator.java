@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.protocol.bedrock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.nbt.NBTOutputStream;
+import org.cloudburstmc.nbt.NbtMap;
+import org.cloudburstmc.nbt.NbtUtils;
+import org.cloudburstmc.protocol.bedrock.data.HeightMapDataType;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkData;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkRequestResult;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkPacket;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkRequestPacket;
+import org.geysermc.geyser.level.chunk.GeyserChunkSection;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.SubChunkCache;
+import org.geysermc.geyser.translator.protocol.PacketTranslator;
+import org.geysermc.geyser.translator.protocol.Translator;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Sent by the client to request individual chunk sections, if the chunk was sent with sub chunk requests enabled.
+ */
+@Translator(packet = SubChunkRequestPacket.class)
+public class BedrockSubChunkRequestTranslator extends PacketTranslator<SubChunkRequestPacket> {
+
+    @Override
+    public void translate(GeyserSession session, SubChunkRequestPacket packet) {
+        SubChunkCache cache = session.getSubChunkCache();
+        if (!cache.isEnabled()) {
+            session.getGeyser().getLogger().debug("Client " + session.bedrockUsername() + " requested sub chunks when they are disabled!");
+            return;
+        }
+
+        Vector3i center = packet.getSubChunkPosition();
+        int airId = session.getBlockMappings().getBedrockAir().getRuntimeId();
+
+        SubChunkPacket response = new SubChunkPacket();
+        response.setDimension(packet.getDimension());
+        response.setCenterPosition(center);
+        response.setCacheEnabled(false);
+
+        for (Vector3i offset : packet.getPositionOffsets()) {
+            SubChunkData data = new SubChunkData();
+            data.setPosition(offset);
+            data.setData(Unpooled.EMPTY_BUFFER);
+            data.setHeightMapType(HeightMapDataType.NO_DATA);
+            data.setRenderHeightMapType(HeightMapDataType.NO_DATA);
+            response.getSubChunks().add(data);
+
+            if (packet.getDimension() != session.getBedrockDimension().bedrockId()) {
+                data.setResult(SubChunkRequestResult.INVALID_DIMENSION);
+                continue;
+            }
+
+            Vector3i position = center.add(offset);
+            SubChunkCache.Column column = cache.getColumn(position.getX(), position.getZ());
+            if (column == null || column.getDimension() != packet.getDimension()) {
+                data.setResult(SubChunkRequestResult.CHUNK_NOT_FOUND);
+                continue;
+            }
+
+            int sectionY = position.getY() - column.getMinSectionY();
+            if (sectionY < 0 || sectionY >= (session.getBedrockDimension().height() >> 4)) {
+                data.setResult(SubChunkRequestResult.INDEX_OUT_OF_BOUNDS);
+                continue;
+            }
+
+            writeHeightMap(data, column.heightMap(airId), sectionY);
+
+            GeyserChunkSection section = column.section(sectionY);
+            if (section == null) {
+                // No need to send anything for an empty section
+                data.setResult(SubChunkRequestResult.SUCCESS_ALL_AIR);
+                continue;
+            }
+
+            List<NbtMap> blockEntities = column.blockEntities(sectionY);
+            int size = section.estimateNetworkSize() + (blockEntities == null ? 0 : blockEntities.size() * 64);
+            ByteBuf buffer = ByteBufAllocator.DEFAULT.ioBuffer(size);
+            try {
+                section.writeToNetwork(buffer);
+                if (blockEntities != null) {
+                    NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(buffer));
+                    for (NbtMap blockEntity : blockEntities) {
+                        nbtStream.writeTag(blockEntity);
+                    }
+                }
+            } catch (IOException e) {
+                buffer.release();
+                session.getGeyser().getLogger().error("IO error while encoding sub chunk", e);
+                data.setResult(SubChunkRequestResult.CHUNK_NOT_FOUND);
+                continue;
+            }
+
+            data.setData(buffer);
+            data.setResult(SubChunkRequestResult.SUCCESS);
+        }
+
+        session.sendUpstreamPacket(response);
+    }
+
+    /**
+     * Bedrock uses the height map to skip lighting work. If every column's highest block is above or below this section,
+     * the whole height map can be skipped.
+     */
+    private static void writeHeightMap(SubChunkData data, short[] heightMap, int sectionY) {
+        int sectionBottom = sectionY << 4;
+        boolean allAbove = true;
+        boolean allBelow = true;
+        for (short height : heightMap) {
+            if (height < sectionBottom + 16) {
+                allAbove = false;
+            }
+            if (height >= sectionBottom) {
+                allBelow = false;
+            }
+        }
+
+        if (allAbove) {
+            data.setHeightMapType(HeightMapDataType.TOO_HIGH);
+            return;
+        }
+        if (allBelow) {
+            data.setHeightMapType(HeightMapDataType.TOO_LOW);
+            return;
+        }
+
+        // -1 indicates the highest block is below this section; 16 indicates it is above
+        byte[] relativeHeights = new byte[heightMap.length];
+        for (int i = 0; i < heightMap.length; i++) {
+            relativeHeights[i] = (byte) Math.max(-1, Math.min(16, heightMap[i] - sectionBottom));
+        }
+        data.setHeightMapType(HeightMapDataType.HAS_DATA);
+        data.setHeightMapData(Unpooled.wrappedBuffer(relativeHeights));
+    }
+}
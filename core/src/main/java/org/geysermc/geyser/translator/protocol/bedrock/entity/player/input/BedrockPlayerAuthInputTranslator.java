@@ -87,8 +87,16 @@ public final class BedrockPlayerAuthInputTranslator extends PacketTranslator<Pla
         for (PlayerAuthInputData input : inputData) {
             leftOverInputData.remove(input);
             switch (input) {
-                case PERFORM_ITEM_INTERACTION -> processItemUseTransaction(session, packet.getItemUseTransaction());
-                case PERFORM_ITEM_STACK_REQUEST -> session.getPlayerInventoryHolder().translateRequests(List.of(packet.getItemStackRequest()));
+                case PERFORM_ITEM_INTERACTION -> {
+                    // Using items is predicted by the client, like in inventory transactions
+                    session.getInventoryContentCache().invalidate();
+                    processItemUseTransaction(session, packet.getItemUseTransaction());
+                }
+                case PERFORM_ITEM_STACK_REQUEST -> {
+                    // The client has already applied the request itself, like in item stack request packets
+                    session.getInventoryContentCache().invalidate();
+                    session.getPlayerInventoryHolder().translateRequests(List.of(packet.getItemStackRequest()));
+                }
                 case START_SWIMMING -> entity.setFlag(EntityFlag.SWIMMING, true);
                 case STOP_SWIMMING -> entity.setFlag(EntityFlag.SWIMMING, false);
                 case START_CRAWLING -> entity.setFlag(EntityFlag.CRAWLING, true);
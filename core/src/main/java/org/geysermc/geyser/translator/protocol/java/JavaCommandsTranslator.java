@@ -26,6 +26,9 @@
 package org.geysermc.geyser.translator.protocol.java;
 
 import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import it.unimi.dsi.fastutil.Hash;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
@@ -37,6 +40,7 @@ import lombok.ToString;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.data.command.*;
 import org.cloudburstmc.protocol.bedrock.packet.AvailableCommandsPacket;
 import org.geysermc.geyser.GeyserImpl;
@@ -57,6 +61,7 @@ import org.geysermc.mcprotocollib.protocol.data.game.entity.attribute.AttributeT
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.ClientboundCommandsPacket;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 @SuppressWarnings("removal") // We know. This is our doing.
@@ -73,6 +78,16 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
     private static final String[] VALID_COLORS;
     private static final String[] VALID_SCOREBOARD_SLOTS;
 
+    /**
+     * Players on the same server and with the same permissions are usually sent the same command graph, and plugin-heavy
+     * graphs can take a while to translate.
+     */
+    private static final Cache<CommandTreeKey, CommandTree> TREE_CACHE = CacheBuilder.newBuilder()
+        .maximumSize(Integer.getInteger("Geyser.CommandTreeCacheSize", 64))
+        .expireAfterAccess(10, TimeUnit.MINUTES)
+        .recordStats()
+        .build();
+
     private static final Hash.Strategy<BedrockCommandInfo> PARAM_STRATEGY = new Hash.Strategy<>() {
         @Override
         public int hashCode(BedrockCommandInfo o) {
@@ -133,51 +148,14 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
             return;
         }
 
-        CommandRegistry registry = session.getGeyser().commandRegistry();
-        CommandNode[] nodes = packet.getNodes();
-        List<CommandData> commandData = new ArrayList<>();
-        IntSet commandNodes = new IntOpenHashSet();
-        Set<String> knownAliases = new HashSet<>();
-        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
-        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
-
-        // Get the first node, it should be a root node
-        CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
-
-        List<String> knownCommands = new ArrayList<>();
-        List<String> restrictedCommands = new ArrayList<>();
-        // Loop through the root nodes to get all commands
-        for (int nodeIndex : rootNode.getChildIndices()) {
-            CommandNode node = nodes[nodeIndex];
-
-            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
-            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
-
-            // Get and update the commandArgs list with the found arguments
-            if (node.getChildIndices().length >= 1) {
-                for (int childIndex : node.getChildIndices()) {
-                    commandArgs.computeIfAbsent(nodeIndex, ($) -> new ArrayList<>()).add(nodes[childIndex]);
-                }
-            }
+        CommandTree tree = translateTree(session, packet);
+        session.setKnownCommands(tree.knownCommands());
+        session.setRestrictedCommands(tree.restrictedCommands());
 
-            // Get and parse all params
-            CommandOverloadData[] params = getParams(session, nodes[nodeIndex], nodes);
-
-            // Insert the alias name into the command list
-            String name = node.getName().toLowerCase(Locale.ROOT);
-            String description = registry.description(name, session.locale());
-            BedrockCommandInfo info = new BedrockCommandInfo(name, description, params);
-            commands.computeIfAbsent(info, $ -> new HashSet<>()).add(name);
-
-            // Add the command to the command lists
-            knownCommands.add(name);
-            if (node.isAllowsRestricted()) { // Name is a bit confusing - this is what we want
-                restrictedCommands.add(name);
-            }
-        }
-
-        session.setKnownCommands(knownCommands);
-        session.setRestrictedCommands(restrictedCommands);
+        // Listeners may remove commands, so every session gets its own copy of the shared tree
+        Map<BedrockCommandInfo, Set<String>> commands = new LinkedHashMap<>(tree.commands());
+        Set<String> knownAliases = new HashSet<>(tree.knownAliases());
+        List<CommandData> commandData = new ArrayList<>();
 
         var eventBus = session.getGeyser().eventBus();
 
@@ -255,15 +233,77 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         session.sendUpstreamPacket(availableCommandsPacket);
     }
 
+    /**
+     * Translates the command graph, or reuses the translation of an identical graph sent to another session.
+     */
+    private static CommandTree translateTree(GeyserSession session, ClientboundCommandsPacket packet) {
+        CommandTreeKey key = new CommandTreeKey(packet.getNodes(), packet.getFirstNodeIndex(), session.locale(),
+            session.getRegistryCache().fingerprint(), session.getLevels());
+        CommandTree cached = TREE_CACHE.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CommandBuilderContext context = new CommandBuilderContext(session);
+        CommandRegistry registry = session.getGeyser().commandRegistry();
+        CommandNode[] nodes = packet.getNodes();
+        IntSet commandNodes = new IntOpenHashSet();
+        Set<String> knownAliases = new HashSet<>();
+        Map<BedrockCommandInfo, Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
+        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
+
+        // Get the first node, it should be a root node
+        CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
+
+        List<String> knownCommands = new ArrayList<>();
+        List<String> restrictedCommands = new ArrayList<>();
+        // Loop through the root nodes to get all commands
+        for (int nodeIndex : rootNode.getChildIndices()) {
+            CommandNode node = nodes[nodeIndex];
+
+            // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
+            if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase(Locale.ROOT))) continue;
+
+            // Get and update the commandArgs list with the found arguments
+            if (node.getChildIndices().length >= 1) {
+                for (int childIndex : node.getChildIndices()) {
+                    commandArgs.computeIfAbsent(nodeIndex, ($) -> new ArrayList<>()).add(nodes[childIndex]);
+                }
+            }
+
+            // Get and parse all params
+            CommandOverloadData[] params = getParams(context, nodes[nodeIndex], nodes);
+
+            // Insert the alias name into the command list
+            String name = node.getName().toLowerCase(Locale.ROOT);
+            String description = registry.description(name, session.locale());
+            BedrockCommandInfo info = new BedrockCommandInfo(name, description, params);
+            commands.computeIfAbsent(info, $ -> new HashSet<>()).add(name);
+
+            // Add the command to the command lists
+            knownCommands.add(name);
+            if (node.isAllowsRestricted()) { // Name is a bit confusing - this is what we want
+                restrictedCommands.add(name);
+            }
+        }
+
+        CommandTree tree = new CommandTree(new LinkedHashMap<>(commands), List.copyOf(knownCommands),
+            List.copyOf(restrictedCommands), Set.copyOf(knownAliases));
+        if (!context.usedSessionState) {
+            TREE_CACHE.put(key, tree);
+        }
+        return tree;
+    }
+
     /**
      * Build the command parameter array for the given command
      *
-     * @param session the session
+     * @param context the session's command builder context
      * @param commandNode The command to build the parameters for
      * @param allNodes    Every command node
      * @return An array of parameter option arrays
      */
-    private static CommandOverloadData[] getParams(GeyserSession session, CommandNode commandNode, CommandNode[] allNodes) {
+    private static CommandOverloadData[] getParams(CommandBuilderContext context, CommandNode commandNode, CommandNode[] allNodes) {
         // Check if the command is an alias and redirect it
         if (commandNode.getRedirectIndex().isPresent()) {
             int redirectIndex = commandNode.getRedirectIndex().getAsInt();
@@ -274,7 +314,7 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         if (commandNode.getChildIndices().length >= 1) {
             // Create the root param node and build all the children
             ParamInfo rootParam = new ParamInfo(commandNode, null);
-            rootParam.buildChildren(new CommandBuilderContext(session), allNodes);
+            rootParam.buildChildren(context, allNodes);
 
             List<CommandOverloadData> treeData = rootParam.getTree();
 
@@ -345,6 +385,64 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
     {
     }
 
+    public static CacheStats treeCacheStats() {
+        return TREE_CACHE.stats();
+    }
+
+    public static long treeCacheSize() {
+        return TREE_CACHE.size();
+    }
+
+    /**
+     * The parts of a translated command graph that do not depend on event listeners or on the platform.
+     */
+    private record CommandTree(Map<BedrockCommandInfo, Set<String>> commands, List<String> knownCommands,
+                               List<String> restrictedCommands, Set<String> knownAliases) {
+    }
+
+    /**
+     * Everything a command graph is translated with, apart from global registries that do not change once loaded.
+     */
+    private static final class CommandTreeKey {
+        private final CommandNode[] nodes;
+        private final int firstNodeIndex;
+        private final String locale;
+        private final long registryFingerprint;
+        private final String @Nullable [] levels;
+        private final int hash;
+
+        CommandTreeKey(CommandNode[] nodes, int firstNodeIndex, String locale, long registryFingerprint, String @Nullable [] levels) {
+            this.nodes = nodes;
+            this.firstNodeIndex = firstNodeIndex;
+            this.locale = locale;
+            this.registryFingerprint = registryFingerprint;
+            this.levels = levels;
+
+            // Hashing thousands of nodes is not free, so only do it once
+            int hash = Arrays.hashCode(nodes);
+            hash = 31 * hash + firstNodeIndex;
+            hash = 31 * hash + locale.hashCode();
+            hash = 31 * hash + Long.hashCode(registryFingerprint);
+            this.hash = 31 * hash + Arrays.hashCode(levels);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof CommandTreeKey other
+                && hash == other.hash
+                && firstNodeIndex == other.firstNodeIndex
+                && registryFingerprint == other.registryFingerprint
+                && locale.equals(other.locale)
+                && Arrays.equals(levels, other.levels)
+                && Arrays.equals(nodes, other.nodes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     /**
      * Stores command completions so we don't have to rebuild the same values multiple times.
      */
@@ -357,6 +455,10 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
         private String[] entityTypes;
         private String[] itemNames;
         private CommandEnumData teams;
+        /**
+         * Whether anything was used that only applies to this session, so the result cannot be shared.
+         */
+        private boolean usedSessionState;
 
         CommandBuilderContext(GeyserSession session) {
             this.session = session;
@@ -405,6 +507,8 @@ public class JavaCommandsTranslator extends PacketTranslator<ClientboundCommands
             if (teams != null) {
                 return teams;
             }
+            // Teams come from this player's scoreboard
+            usedSessionState = true;
             return (teams = new CommandEnumData("Geyser_Teams",
                     session.getWorldCache().getScoreboard().getTeamNames(), true
             ));
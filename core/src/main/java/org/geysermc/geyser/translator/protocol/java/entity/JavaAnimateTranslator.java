@@ -56,6 +56,7 @@ public class JavaAnimateTranslator extends PacketTranslator<ClientboundAnimatePa
         if (entity == null) {
             return;
         }
+        entity.flushQueuedUpdates();
 
         AnimatePacket animatePacket = new AnimatePacket();
         animatePacket.setRuntimeEntityId(entity.geyserId());
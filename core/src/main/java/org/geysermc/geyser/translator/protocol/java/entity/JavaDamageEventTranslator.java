@@ -42,6 +42,7 @@ public class JavaDamageEventTranslator extends PacketTranslator<ClientboundDamag
         if (entity == null) {
             return;
         }
+        entity.flushQueuedUpdates();
 
         // We can probably actually map damage types.
         EntityEventPacket entityEventPacket = new EntityEventPacket();
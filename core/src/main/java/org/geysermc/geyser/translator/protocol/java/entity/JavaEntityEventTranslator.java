@@ -68,6 +68,7 @@ public class JavaEntityEventTranslator extends PacketTranslator<ClientboundEntit
         Entity entity = session.getEntityCache().getEntityByJavaId(packet.getEntityId());
         if (entity == null)
             return;
+        entity.flushQueuedUpdates();
 
         EntityEventPacket entityEventPacket = new EntityEventPacket();
         entityEventPacket.setRuntimeEntityId(entity.geyserId());
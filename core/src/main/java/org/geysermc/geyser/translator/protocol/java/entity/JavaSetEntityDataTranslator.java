@@ -27,6 +27,7 @@ package org.geysermc.geyser.translator.protocol.java.entity;
 
 import org.geysermc.geyser.entity.EntityDefinition;
 import org.geysermc.geyser.entity.type.Entity;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
@@ -56,7 +57,13 @@ public class JavaSetEntityDataTranslator extends PacketTranslator<ClientboundSet
             ((EntityDefinition) definition).translateMetadata(entity, metadata);
         }
 
-        entity.updateBedrockMetadata();
+        if (entity instanceof SessionPlayerEntity) {
+            // The client's own movement depends on this, so don't wait for the end of the tick
+            entity.updateBedrockMetadata();
+        } else {
+            // Merged with any other metadata this entity receives during this tick
+            session.getEntityCache().getUpdateQueue().queueMetadata(entity);
+        }
 
         // Update the interactive tag, if necessary
         Entity mouseoverEntity = session.getMouseoverEntity();
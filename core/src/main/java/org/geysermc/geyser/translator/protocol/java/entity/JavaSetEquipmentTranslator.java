@@ -53,6 +53,7 @@ public class JavaSetEquipmentTranslator extends PacketTranslator<ClientboundSetE
                     entity.getDefinition().identifier() + ").");
             return;
         }
+        livingEntity.flushQueuedUpdates();
 
         boolean armorUpdated = false;
         boolean mainHandUpdated = false;
@@ -51,6 +51,8 @@ public class JavaTakeItemEntityTranslator extends PacketTranslator<ClientboundTa
         // Collector is the entity 'picking up' the item
         Entity collectorEntity = session.getEntityCache().getEntityByJavaId(packet.getCollectorEntityId());
         if (collectorEntity == null) return;
+        collectedEntity.flushQueuedUpdates();
+        collectorEntity.flushQueuedUpdates();
         if (collectedEntity instanceof ExpOrbEntity) {
             // Player just picked up an experience orb
             LevelEventPacket xpPacket = new LevelEventPacket();
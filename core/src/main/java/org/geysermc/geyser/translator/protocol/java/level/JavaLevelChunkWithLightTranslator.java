@@ -33,7 +33,10 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntImmutableList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.nbt.NBTOutputStream;
 import org.cloudburstmc.nbt.NbtMap;
@@ -45,13 +48,17 @@ import org.geysermc.geyser.level.BedrockDimension;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.block.type.BlockState;
 import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.level.chunk.ChunkSectionCache;
+import org.geysermc.geyser.level.chunk.ChunkSectionCache.CachedChunkSection;
 import org.geysermc.geyser.level.chunk.GeyserChunkSection;
 import org.geysermc.geyser.level.chunk.bitarray.BitArray;
 import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
 import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
 import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.session.GeyserSession;
-import org.geysermc.geyser.session.cache.registry.JavaRegistries;
+import org.geysermc.geyser.session.cache.ChunkBlobCache;
+import org.geysermc.geyser.session.cache.SubChunkCache;
 import org.geysermc.geyser.translator.level.BiomeTranslator;
 import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
 import org.geysermc.geyser.translator.level.block.entity.BlockEntityTranslator;
@@ -74,7 +81,6 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.Clien
 import java.io.IOException;
 import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 
 import static org.geysermc.geyser.util.ChunkUtils.EMPTY_BLOCK_STORAGE;
 import static org.geysermc.geyser.util.ChunkUtils.EMPTY_CHUNK_SECTION_SIZE;
@@ -92,176 +98,257 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
         // Ensure that, if the player is using lower world heights, the position is not offset
         int yOffset = session.getChunkCache().getChunkMinY();
         int chunkSize = session.getChunkCache().getChunkHeightY();
+        BedrockDimension bedrockDimension = session.getBedrockDimension();
+        ChunkSectionCache sectionCache = session.getGeyser().getChunkSectionCache();
+        // The registries and mappings can change while the chunk is converted, so take what the conversion needs now
+        BlockMappings mappings = session.getBlockMappings();
+        int[] bedrockBiomeIds = BiomeTranslator.bedrockBiomeIds(session);
+
+        // The block data conversion doesn't touch any session state, so it can be done away from the event loop.
+        // Everything else has to wait until we are back on the event loop, in the order the chunks were received.
+        session.getChunkEncodingQueue().submit(
+            () -> translateSections(packet, mappings, bedrockBiomeIds, yOffset, chunkSize, bedrockDimension, sectionCache),
+            column -> sendChunk(session, packet, column, yOffset, chunkSize, bedrockDimension)
+        );
+    }
 
+    /**
+     * Converts the Java block and biome data of a chunk to Bedrock. This runs away from the event loop,
+     * so it must only use the data it is given and never the session.
+     */
+    private static TranslatedColumn translateSections(ClientboundLevelChunkWithLightPacket packet, BlockMappings mappings,
+                                                      int[] bedrockBiomeIds, int yOffset, int chunkSize, BedrockDimension bedrockDimension,
+                                                      @Nullable ChunkSectionCache sectionCache) {
         DataPalette[] javaChunks = new DataPalette[chunkSize];
         DataPalette[] javaBiomes = new DataPalette[chunkSize];
 
-        final BlockEntityInfo[] blockEntities = packet.getBlockEntities();
-        final List<NbtMap> bedrockBlockEntities = new ObjectArrayList<>(blockEntities.length);
+        // Their tags can depend on the session, so they are created once we are back on the event loop
+        final List<BedrockOnlyBlock> bedrockOnlyBlocks = new ObjectArrayList<>();
 
         BitSet waterloggedPaletteIds = new BitSet();
         BitSet bedrockOnlyBlockEntityIds = new BitSet();
 
-        BedrockDimension bedrockDimension = session.getBedrockDimension();
         int maxBedrockSectionY = (bedrockDimension.height() >> 4) - 1;
 
-        int sectionCount;
-        byte[] payload;
-        ByteBuf byteBuf = null;
-
         // calculate the difference between the java dimension minY and the bedrock dimension minY as
         // the java chunk sections may need to be placed higher up in the bedrock chunk section array
         int sectionCountDiff = yOffset - (bedrockDimension.minY() >> 4);
         GeyserChunkSection[] sections = new GeyserChunkSection[chunkSize + sectionCountDiff];
+        CachedChunkSection[] cachedSections = new CachedChunkSection[sections.length];
+
+        ByteBuf in = Unpooled.wrappedBuffer(packet.getChunkData());
+        for (int sectionY = 0; sectionY < chunkSize; sectionY++) {
+            ChunkSection javaSection = MinecraftTypes.readChunkSection(in, BlockRegistries.BLOCK_STATES.get().size(), bedrockBiomeIds.length);
+            javaChunks[sectionY] = javaSection.getBlockData();
+            javaBiomes[sectionY] = javaSection.getBiomeData();
+
+            int bedrockSectionY = sectionY + sectionCountDiff;
+            int subChunkIndex = sectionY + yOffset;
+            if (bedrockSectionY < 0 || maxBedrockSectionY < bedrockSectionY) {
+                // Ignore this chunk section since it goes outside the bounds accepted by the Bedrock client
+                continue;
+            }
 
-        try {
-            ByteBuf in = Unpooled.wrappedBuffer(packet.getChunkData());
-            for (int sectionY = 0; sectionY < chunkSize; sectionY++) {
-                ChunkSection javaSection = MinecraftTypes.readChunkSection(in, BlockRegistries.BLOCK_STATES.get().size(),
-                    session.getRegistryCache().registry(JavaRegistries.BIOME).size());
-                javaChunks[sectionY] = javaSection.getBlockData();
-                javaBiomes[sectionY] = javaSection.getBiomeData();
-
-                int bedrockSectionY = sectionY + sectionCountDiff;
-                int subChunkIndex = sectionY + yOffset;
-                if (bedrockSectionY < 0 || maxBedrockSectionY < bedrockSectionY) {
-                    // Ignore this chunk section since it goes outside the bounds accepted by the Bedrock client
-                    continue;
-                }
+            // No need to encode an empty section...
+            if (javaSection.isBlockCountEmpty()) {
+                continue;
+            }
 
-                // No need to encode an empty section...
-                if (javaSection.isBlockCountEmpty()) {
+            Palette javaPalette = javaSection.getBlockData().getPalette();
+            BitStorage javaData = javaSection.getBlockData().getStorage();
+
+            long hash = 0;
+            if (sectionCache != null && !(javaPalette instanceof SingletonPalette)) {
+                // Another session may have already translated this exact section
+                hash = ChunkSectionCache.hash(javaSection.getBlockData());
+                CachedChunkSection cached = sectionCache.get(mappings, hash, javaSection.getBlockData());
+                if (cached != null) {
+                    if (cached.hasBedrockOnlyBlockEntities()) {
+                        addBedrockOnlyBlocks(packet, sectionY + yOffset, javaPalette, javaData, bedrockOnlyBlocks);
+                    }
+                    sections[bedrockSectionY] = cached.section();
+                    cachedSections[bedrockSectionY] = cached;
                     continue;
                 }
+            }
 
-                Palette javaPalette = javaSection.getBlockData().getPalette();
-                BitStorage javaData = javaSection.getBlockData().getStorage();
-
-                if (javaPalette instanceof GlobalPalette) {
-                    // As this is the global palette, simply iterate through the whole chunk section once
-                    GeyserChunkSection section = new GeyserChunkSection(session.getBlockMappings().getBedrockAir().getRuntimeId(), subChunkIndex);
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int javaId = javaData.get(yzx);
-                        BlockState state = BlockState.of(javaId);
-                        int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
-                        int xzy = indexYZXtoXZY(yzx);
-                        section.getBlockStorageArray()[0].setFullBlock(xzy, bedrockId);
-
-                        if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                            section.getBlockStorageArray()[1].setFullBlock(xzy, session.getBlockMappings().getBedrockWater().getRuntimeId());
-                        }
+            if (javaPalette instanceof GlobalPalette) {
+                // As this is the global palette, simply iterate through the whole chunk section once
+                GeyserChunkSection section = new GeyserChunkSection(mappings.getBedrockAir().getRuntimeId(), subChunkIndex);
+                int bedrockOnlyBlockCount = bedrockOnlyBlocks.size();
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    int javaId = javaData.get(yzx);
+                    BlockState state = BlockState.of(javaId);
+                    int bedrockId = mappings.getBedrockBlockId(javaId);
+                    int xzy = indexYZXtoXZY(yzx);
+                    section.getBlockStorageArray()[0].setFullBlock(xzy, bedrockId);
 
-                        // Check if block is piston or flower to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                        if (state.block() instanceof BedrockChunkWantsBlockEntityTag blockEntity) {
-                            bedrockBlockEntities.add(blockEntity.createTag(session,
-                                    Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
-                                    state
-                            ));
-                        }
+                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
+                        section.getBlockStorageArray()[1].setFullBlock(xzy, mappings.getBedrockWater().getRuntimeId());
+                    }
+
+                    // Check if block is piston or flower to see if we'll need to create additional block entities, as they're only block entities in Bedrock
+                    if (state.block() instanceof BedrockChunkWantsBlockEntityTag) {
+                        bedrockOnlyBlocks.add(new BedrockOnlyBlock(
+                                Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
+                                state
+                        ));
                     }
-                    sections[bedrockSectionY] = section;
-                    continue;
                 }
+                sections[bedrockSectionY] = section;
+                if (sectionCache != null) {
+                    cachedSections[bedrockSectionY] = sectionCache.put(mappings, hash, javaSection.getBlockData(), section, bedrockOnlyBlocks.size() != bedrockOnlyBlockCount);
+                }
+                continue;
+            }
 
-                if (javaPalette instanceof SingletonPalette) {
-                    // There's only one block here. Very easy!
-                    int javaId = javaPalette.idToState(0);
-                    int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
-                    BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(bedrockId));
+            if (javaPalette instanceof SingletonPalette) {
+                // There's only one block here. Very easy!
+                int javaId = javaPalette.idToState(0);
+                int bedrockId = mappings.getBedrockBlockId(javaId);
+                BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(bedrockId));
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                        BlockStorage waterlogged = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(session.getBlockMappings().getBedrockWater().getRuntimeId()));
-                        sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage, waterlogged}, subChunkIndex);
-                    } else {
-                        sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage}, subChunkIndex);
-                    }
-                    // If a chunk contains all of the same piston or flower pot then god help us
-                    continue;
+                if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
+                    BlockStorage waterlogged = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(mappings.getBedrockWater().getRuntimeId()));
+                    sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage, waterlogged}, subChunkIndex);
+                } else {
+                    sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage}, subChunkIndex);
                 }
+                // If a chunk contains all of the same piston or flower pot then god help us
+                continue;
+            }
 
-                IntList bedrockPalette = new IntArrayList(javaPalette.size());
-                int airPaletteId = -1;
-                waterloggedPaletteIds.clear();
-                bedrockOnlyBlockEntityIds.clear();
+            IntList bedrockPalette = new IntArrayList(javaPalette.size());
+            int airPaletteId = -1;
+            waterloggedPaletteIds.clear();
+            bedrockOnlyBlockEntityIds.clear();
 
-                // Iterate through palette and convert state IDs to Bedrock, doing some additional checks as we go
-                for (int i = 0; i < javaPalette.size(); i++) {
-                    int javaId = javaPalette.idToState(i);
-                    bedrockPalette.add(session.getBlockMappings().getBedrockBlockId(javaId));
+            // Iterate through palette and convert state IDs to Bedrock, doing some additional checks as we go
+            for (int i = 0; i < javaPalette.size(); i++) {
+                int javaId = javaPalette.idToState(i);
+                bedrockPalette.add(mappings.getBedrockBlockId(javaId));
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                        waterloggedPaletteIds.set(i);
-                    }
+                if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
+                    waterloggedPaletteIds.set(i);
+                }
 
-                    if (javaId == Block.JAVA_AIR_ID) {
-                        airPaletteId = i;
-                    }
+                if (javaId == Block.JAVA_AIR_ID) {
+                    airPaletteId = i;
+                }
 
-                    // Check if block is piston, flower or cauldron to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                    // TODO this needs a performance check when my head is clearer
-                    BlockState state = BlockState.of(javaId);
-                    if (state.block() instanceof BedrockChunkWantsBlockEntityTag) {
-                        bedrockOnlyBlockEntityIds.set(i);
-                    }
+                // Check if block is piston, flower or cauldron to see if we'll need to create additional block entities, as they're only block entities in Bedrock
+                // TODO this needs a performance check when my head is clearer
+                BlockState state = BlockState.of(javaId);
+                if (state.block() instanceof BedrockChunkWantsBlockEntityTag) {
+                    bedrockOnlyBlockEntityIds.set(i);
                 }
+            }
 
-                // Add Bedrock-exclusive block entities
-                // We only if the palette contained any blocks that are Bedrock-exclusive block entities to avoid iterating through the whole block data
-                // for no reason, as most sections will not contain any pistons or flower pots
-                if (!bedrockOnlyBlockEntityIds.isEmpty()) {
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        if (bedrockOnlyBlockEntityIds.get(paletteId)) {
-                            BlockState state = BlockState.of(javaPalette.idToState(paletteId));
-                            bedrockBlockEntities.add(((BedrockChunkWantsBlockEntityTag) state.block()).createTag(session,
-                                    Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
-                                    state
-                            ));
-                        }
+            // Add Bedrock-exclusive block entities
+            // We only if the palette contained any blocks that are Bedrock-exclusive block entities to avoid iterating through the whole block data
+            // for no reason, as most sections will not contain any pistons or flower pots
+            if (!bedrockOnlyBlockEntityIds.isEmpty()) {
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    int paletteId = javaData.get(yzx);
+                    if (bedrockOnlyBlockEntityIds.get(paletteId)) {
+                        BlockState state = BlockState.of(javaPalette.idToState(paletteId));
+                        bedrockOnlyBlocks.add(new BedrockOnlyBlock(
+                                Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
+                                state
+                        ));
                     }
                 }
+            }
 
-                int bedrockDataBits = Integer.SIZE - Integer.numberOfLeadingZeros(javaPalette.size());
-                BitArray bedrockData = BitArrayVersion.forBitsCeil(bedrockDataBits).createArray(BlockStorage.SIZE);
-                BlockStorage layer0 = new BlockStorage(bedrockData, bedrockPalette);
-                BlockStorage[] layers;
-
-                // Convert data array from YZX to XZY coordinate order
-                if (waterloggedPaletteIds.isEmpty()) {
-                    // No blocks are waterlogged, simply convert coordinate order
-                    // This could probably be optimized further...
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-                    }
+            int bedrockDataBits = Integer.SIZE - Integer.numberOfLeadingZeros(javaPalette.size());
+            BitArrayVersion bedrockVersion = BitArrayVersion.forBitsCeil(bedrockDataBits);
+            BlockStorage[] layers;
+
+            // Convert data array from YZX to XZY coordinate order
+            if (waterloggedPaletteIds.isEmpty()) {
+                // No blocks are waterlogged, simply convert coordinate order
+                BitArray bedrockData = bedrockVersion.createArray(javaData, null, null);
+                layers = new BlockStorage[]{ new BlockStorage(bedrockData, bedrockPalette) };
+            } else {
+                // The section contains waterlogged blocks, we need to convert coordinate order AND generate a V1 block storage for
+                // layer 1 with palette ID 1 indicating water
+                int[] layer1Data = new int[BlockStorage.SIZE >> 5];
+                BitArray bedrockData = bedrockVersion.createArray(javaData, waterloggedPaletteIds, layer1Data);
+
+                // V1 palette
+                IntList layer1Palette = IntList.of(
+                        mappings.getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
+                        mappings.getBedrockWater().getRuntimeId());
+
+                layers = new BlockStorage[]{ new BlockStorage(bedrockData, bedrockPalette), new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
+            }
 
-                    layers = new BlockStorage[]{ layer0 };
-                } else {
-                    // The section contains waterlogged blocks, we need to convert coordinate order AND generate a V1 block storage for
-                    // layer 1 with palette ID 1 indicating water
-                    int[] layer1Data = new int[BlockStorage.SIZE >> 5];
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-
-                        if (waterloggedPaletteIds.get(paletteId)) {
-                            layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
-                        }
-                    }
-                    
-                    // V1 palette
-                    IntList layer1Palette = IntList.of(
-                            session.getBlockMappings().getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
-                            session.getBlockMappings().getBedrockWater().getRuntimeId());
+            sections[bedrockSectionY] = new GeyserChunkSection(layers, subChunkIndex);
+            if (sectionCache != null) {
+                cachedSections[bedrockSectionY] = sectionCache.put(mappings, hash, javaSection.getBlockData(), sections[bedrockSectionY], !bedrockOnlyBlockEntityIds.isEmpty());
+            }
+        }
 
-                    layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
-                }
+        // As of 1.18.30, the amount of biomes read is dependent on how high Bedrock thinks the dimension is
+        int biomeCount = bedrockDimension.height() >> 4;
+        int dimensionOffset = bedrockDimension.minY() >> 4;
+        BlockStorage[] bedrockBiomes = new BlockStorage[biomeCount];
+        for (int i = 0; i < biomeCount; i++) {
+            int biomeYOffset = dimensionOffset + i;
+            if (biomeYOffset < yOffset || biomeYOffset >= (chunkSize + yOffset)) {
+                // Outside the height of the Java world; filled in when writing
+                continue;
+            }
+            bedrockBiomes[i] = BiomeTranslator.toNewBedrockBiome(bedrockBiomeIds, javaBiomes[i + (dimensionOffset - yOffset)]);
+        }
 
-                sections[bedrockSectionY] = new GeyserChunkSection(layers, subChunkIndex);
+        return new TranslatedColumn(javaChunks, sections, cachedSections, bedrockBiomes, bedrockOnlyBlocks);
+    }
+
+    /**
+     * Finds the blocks of a section that are only block entities on Bedrock, such as pistons and flower pots.
+     */
+    private static void addBedrockOnlyBlocks(ClientboundLevelChunkWithLightPacket packet, int sectionY,
+                                             Palette javaPalette, BitStorage javaData, List<BedrockOnlyBlock> bedrockOnlyBlocks) {
+        for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+            BlockState state = BlockState.of(javaPalette.idToState(javaData.get(yzx)));
+            if (state.block() instanceof BedrockChunkWantsBlockEntityTag) {
+                bedrockOnlyBlocks.add(new BedrockOnlyBlock(
+                        Vector3i.from((packet.getX() << 4) + (yzx & 0xF), (sectionY << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
+                        state
+                ));
             }
+        }
+    }
+
+    /**
+     * Translates block entities, updates the caches of the session, and sends the chunk to the client.
+     */
+    private static void sendChunk(GeyserSession session, ClientboundLevelChunkWithLightPacket packet, TranslatedColumn column,
+                                  int yOffset, int chunkSize, BedrockDimension bedrockDimension) {
+        DataPalette[] javaChunks = column.javaChunks();
+        GeyserChunkSection[] sections = column.sections();
+        CachedChunkSection[] cachedSections = column.cachedSections();
+        final BlockEntityInfo[] blockEntities = packet.getBlockEntities();
+        final List<BedrockOnlyBlock> bedrockOnlyBlocks = column.bedrockOnlyBlocks();
+        final List<NbtMap> bedrockBlockEntities = new ObjectArrayList<>(bedrockOnlyBlocks.size() + blockEntities.length);
+        for (BedrockOnlyBlock block : bedrockOnlyBlocks) {
+            bedrockBlockEntities.add(((BedrockChunkWantsBlockEntityTag) block.state().block()).createTag(session, block.position(), block.state()));
+        }
+
+        int maxBedrockSectionY = (bedrockDimension.height() >> 4) - 1;
+
+        int sectionCount;
+        ByteBuf payload;
+        ByteBuf byteBuf = null;
+
+        ChunkBlobCache blobCache = session.getChunkBlobCache();
+        LongList blobIds = null;
+
+        SubChunkCache subChunkCache = session.getSubChunkCache();
+        boolean requestSubChunks = subChunkCache.isEnabled();
 
+        try {
             if (!session.getErosionHandler().isActive()) {
                 session.getChunkCache().addToCache(packet.getX(), packet.getZ(), javaChunks);
             }
@@ -303,10 +390,12 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                                 // Custom skull is in a section accepted by Bedrock
                                 GeyserChunkSection bedrockSection = sections[bedrockSectionY];
                                 IntList palette = bedrockSection.getBlockStorageArray()[0].getPalette();
-                                if (palette instanceof IntImmutableList || palette instanceof IntLists.Singleton) {
+                                if (cachedSections[bedrockSectionY] != null || palette instanceof IntImmutableList || palette instanceof IntLists.Singleton) {
                                     // TODO there has to be a better way to expand the palette .-.
+                                    // Cached sections are shared with other sessions and must not be modified either
                                     bedrockSection = bedrockSection.copy(subChunkIndex);
                                     sections[bedrockSectionY] = bedrockSection;
+                                    cachedSections[bedrockSectionY] = null;
                                 }
                                 bedrockSection.setFullBlock(x, y & 0xF, z, 0, blockDefinition.getRuntimeId());
                             }
@@ -325,30 +414,53 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
             // As of 1.18.30, the amount of biomes read is dependent on how high Bedrock thinks the dimension is
             int biomeCount = bedrockDimension.height() >> 4;
 
+            if (requestSubChunks) {
+                // Sections and their block entities are sent once the client requests them
+                // The sub chunk cache modifies its sections on block updates, so shared sections need to be copied
+                for (int i = 0; i < sectionCount; i++) {
+                    if (cachedSections[i] != null) {
+                        sections[i] = sections[i].copy(i + (bedrockDimension.minY() >> 4));
+                    }
+                }
+                subChunkCache.addColumn(packet.getX(), packet.getZ(), sections, bedrockBlockEntities);
+            } else if (blobCache.isEnabled()) {
+                blobIds = new LongArrayList(sectionCount + 1);
+            }
+
             // Estimate chunk size
             int size = 0;
-            for (int i = 0; i < sectionCount; i++) {
-                GeyserChunkSection section = sections[i];
-                if (section != null) {
-                    size += section.estimateNetworkSize();
-                } else {
-                    size += EMPTY_CHUNK_SECTION_SIZE;
+            if (!requestSubChunks) {
+                for (int i = 0; i < sectionCount; i++) {
+                    GeyserChunkSection section = sections[i];
+                    if (section != null) {
+                        size += section.estimateNetworkSize();
+                    } else {
+                        size += EMPTY_CHUNK_SECTION_SIZE;
+                    }
                 }
+                size += bedrockBlockEntities.size() * 64; // Conservative estimate of 64 bytes per tile entity
             }
             size += ChunkUtils.EMPTY_BIOME_DATA.length * biomeCount;
             size += 1; // Border blocks
-            size += bedrockBlockEntities.size() * 64; // Conservative estimate of 64 bytes per tile entity
 
             // Allocate output buffer
             byteBuf = ByteBufAllocator.DEFAULT.ioBuffer(size);
-            for (int i = 0; i < sectionCount; i++) {
+            for (int i = 0; i < sectionCount && !requestSubChunks; i++) {
                 GeyserChunkSection section = sections[i];
-                if (section != null) {
+                if (cachedSections[i] != null) {
+                    cachedSections[i].writeToNetwork(byteBuf, i + (bedrockDimension.minY() >> 4));
+                } else if (section != null) {
                     section.writeToNetwork(byteBuf);
                 } else {
                     int subChunkIndex = (i + (bedrockDimension.minY() >> 4));
                     new GeyserChunkSection(EMPTY_BLOCK_STORAGE, subChunkIndex).writeToNetwork(byteBuf);
                 }
+
+                if (blobIds != null) {
+                    // Each section is its own blob; the client will tell us which ones it still needs
+                    blobIds.add(blobCache.addBlob(byteBuf));
+                    byteBuf.clear();
+                }
             }
 
             int dimensionOffset = bedrockDimension.minY() >> 4;
@@ -366,43 +478,74 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     continue;
                 }
 
-                BiomeTranslator.toNewBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)]).writeToNetwork(byteBuf);
+                column.biomes()[i].writeToNetwork(byteBuf);
+            }
+
+            if (blobIds != null) {
+                // All biome data is sent as a single blob after the sections
+                blobIds.add(blobCache.addBlob(byteBuf));
+                byteBuf.clear();
             }
 
             byteBuf.writeByte(0); // Border blocks - Edu edition only
 
-            // Encode tile entities into buffer
-            NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(byteBuf));
-            for (NbtMap blockEntity : bedrockBlockEntities) {
-                nbtStream.writeTag(blockEntity);
+            if (!requestSubChunks) {
+                // Encode tile entities into buffer
+                NBTOutputStream nbtStream = NbtUtils.createNetworkWriter(new ByteBufOutputStream(byteBuf));
+                for (NbtMap blockEntity : bedrockBlockEntities) {
+                    nbtStream.writeTag(blockEntity);
+                }
             }
-            payload = new byte[byteBuf.readableBytes()];
-            byteBuf.readBytes(payload);
+            // The packet takes ownership of the buffer, and releases it once the codec has written it
+            payload = byteBuf;
+            byteBuf = null;
         } catch (IOException e) {
             session.getGeyser().getLogger().error("IO error while encoding chunk", e);
             return;
         } finally {
             if (byteBuf != null) {
-                byteBuf.release(); // Release buffer to allow buffer pooling to be useful
+                byteBuf.release(); // Encoding failed, so the buffer was never handed to the packet
             }
         }
 
         LevelChunkPacket levelChunkPacket = new LevelChunkPacket();
-        levelChunkPacket.setSubChunksLength(sectionCount);
-        levelChunkPacket.setCachingEnabled(false);
+        if (requestSubChunks) {
+            levelChunkPacket.setRequestSubChunks(true);
+            levelChunkPacket.setSubChunkLimit(sectionCount);
+        } else {
+            levelChunkPacket.setSubChunksLength(sectionCount);
+        }
+        levelChunkPacket.setCachingEnabled(blobIds != null);
+        if (blobIds != null) {
+            levelChunkPacket.getBlobIds().addAll(blobIds);
+        }
         levelChunkPacket.setChunkX(packet.getX());
         levelChunkPacket.setChunkZ(packet.getZ());
-        levelChunkPacket.setData(Unpooled.wrappedBuffer(payload));
+        levelChunkPacket.setData(payload);
         levelChunkPacket.setDimension(session.getBedrockDimension().bedrockId());
         session.sendUpstreamPacket(levelChunkPacket);
 
-        for (Map.Entry<Vector3i, ItemFrameEntity> entry : session.getItemFrameCache().entrySet()) {
-            Vector3i position = entry.getKey();
-            if ((position.getX() >> 4) == packet.getX() && (position.getZ() >> 4) == packet.getZ()) {
-                // Update this item frame so it doesn't get lost in the abyss
-                //TODO optimize
-                entry.getValue().updateBlock(true);
-            }
+        for (ItemFrameEntity itemFrame : session.getItemFrameCache().getInChunk(packet.getX(), packet.getZ())) {
+            // Update this item frame so it doesn't get lost in the abyss
+            itemFrame.updateBlock(true);
         }
     }
+
+    /**
+     * The result of converting a chunk's block data, before block entities have been translated.
+     *
+     * @param javaChunks the Java block data, for the chunk cache
+     * @param sections the Bedrock sections, indexed from the bottom of the Bedrock dimension
+     * @param cachedSections the sections that are shared through the {@link ChunkSectionCache}, along with their encoded form
+     * @param biomes the Bedrock biomes, indexed from the bottom of the Bedrock dimension. Null outside the Java world height
+     * @param bedrockOnlyBlocks blocks that only have a block entity on Bedrock, whose tags are created on the event loop
+     */
+    private record TranslatedColumn(DataPalette[] javaChunks, GeyserChunkSection[] sections, CachedChunkSection[] cachedSections, BlockStorage[] biomes, List<BedrockOnlyBlock> bedrockOnlyBlocks) {
+    }
+
+    /**
+     * A block that is a block entity on Bedrock only, whose tag is yet to be created.
+     */
+    private record BedrockOnlyBlock(Vector3i position, BlockState state) {
+    }
 }
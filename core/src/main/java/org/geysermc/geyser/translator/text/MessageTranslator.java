@@ -25,6 +25,10 @@
 
 package org.geysermc.geyser.translator.text;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.text.TranslatableComponent;
@@ -59,6 +63,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -78,9 +83,18 @@ public class MessageTranslator {
 
     // Reset character
     private static final String RESET = BASE + "r";
-    private static final Pattern RESET_PATTERN = Pattern.compile("(" + RESET + "){2,}");
     private static final Pattern LOCALIZATION_PATTERN = Pattern.compile("%(?:(\\d+)\\$)?s");
 
+    /**
+     * The same messages are converted over and over again for every player that sees them, such as broadcast chat,
+     * scoreboards and item lore. Components are immutable, so the result can be shared between sessions.
+     */
+    private static final Cache<MessageKey, String> MESSAGE_CACHE = CacheBuilder.newBuilder()
+        .maximumSize(Integer.getInteger("Geyser.MessageCacheSize", 8192))
+        .expireAfterAccess(5, TimeUnit.MINUTES)
+        .recordStats()
+        .build();
+
     static {
         GSON_SERIALIZER = DefaultComponentSerializer.get()
                 .toBuilder()
@@ -205,83 +219,102 @@ public class MessageTranslator {
     }
 
     private static String convertMessage(Component message, String locale, boolean addLeadingResetFormat) {
+        MessageKey key = new MessageKey(message, locale, addLeadingResetFormat);
+        String cached = MESSAGE_CACHE.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             // Translate any components that require it
             message = RENDERER.render(message, locale);
 
-            String legacy = BEDROCK_SERIALIZER.serialize(message);
-
-            StringBuilder finalLegacy = new StringBuilder();
-            char[] legacyChars = legacy.toCharArray();
-            boolean lastFormatReset = !addLeadingResetFormat;
-            for (int i = 0; i < legacyChars.length; i++) {
-                char legacyChar = legacyChars[i];
-                if (legacyChar != ChatColor.ESCAPE || i >= legacyChars.length - 1) {
-                    // No special formatting for Bedrock needed
-                    // Or, we're at the end of the string
-                    finalLegacy.append(legacyChar);
-                    lastFormatReset = false;
-                    continue;
-                }
+            String converted = toBedrockLegacy(BEDROCK_SERIALIZER.serialize(message), addLeadingResetFormat);
+            MESSAGE_CACHE.put(key, converted);
+            return converted;
+        } catch (Exception e) {
+            GeyserImpl.getInstance().getLogger().debug(GSON_SERIALIZER.serialize(message));
+            GeyserImpl.getInstance().getLogger().error("Failed to parse message", e);
 
-                char next = legacyChars[++i];
-                if (BEDROCK_COLORS.indexOf(next) != -1) {
-                    // Unlike Java Edition, the ChatFormatting is not reset when a ChatColor is added
-                    if (!lastFormatReset) {
-                        finalLegacy.append(RESET);
-                    }
+            return "";
+        }
+    }
+
+    /**
+     * Adapts legacy text for Bedrock in a single pass:
+     * <ul>
+     *     <li>Unlike Java Edition, formatting is not reset when a color is applied, so a reset is added before each color.</li>
+     *     <li>Repeated resets are collapsed into one, and a trailing reset is removed.</li>
+     *     <li>Bedrock resets the formatting after a newline, so the formatting in use is applied again after each one.</li>
+     * </ul>
+     */
+    @VisibleForTesting
+    public static String toBedrockLegacy(String legacy, boolean addLeadingResetFormat) {
+        int length = legacy.length();
+        StringBuilder output = new StringBuilder(length + 8);
+        // The formatting applied since the last reset, to be applied again after a newline
+        StringBuilder activeFormats = new StringBuilder();
+        // Whether the formatting was reset before any text, so a color does not need another reset
+        boolean formatReset = !addLeadingResetFormat;
+        // Whether the output currently ends with a reset, so another one is not needed
+        boolean endsWithReset = false;
+        boolean hasNewline = false;
+        boolean danglingEscape = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = legacy.charAt(i);
+            if (c != ChatColor.ESCAPE || i == length - 1) {
+                // No special formatting for Bedrock needed, or a formatting character at the end of the string
+                output.append(c);
+                if (c == ChatColor.ESCAPE) {
+                    danglingEscape = true;
+                } else if (c == '\n') {
+                    hasNewline = true;
+                    output.append(activeFormats);
                 }
-                finalLegacy.append(BASE).append(next);
-                lastFormatReset = next == 'r';
+                formatReset = false;
+                endsWithReset = false;
+                continue;
             }
 
-            String finalLegacyString = finalLegacy.toString();
-
-            // Remove duplicate resets and trailing resets
-            finalLegacyString = RESET_PATTERN.matcher(finalLegacyString).replaceAll(RESET);
-            if (finalLegacyString.endsWith(RESET)) {
-                finalLegacyString = finalLegacyString.substring(0, finalLegacyString.length() - 2);
+            char format = legacy.charAt(++i);
+            if (format == 'r' || (!formatReset && BEDROCK_COLORS.indexOf(format) != -1)) {
+                if (!endsWithReset) {
+                    output.append(RESET);
+                    endsWithReset = true;
+                }
+                activeFormats.setLength(0);
             }
+            if (format != 'r') {
+                output.append(ChatColor.ESCAPE).append(format);
+                activeFormats.append(ChatColor.ESCAPE).append(format);
+                endsWithReset = false;
+            }
+            formatReset = format == 'r';
+        }
 
-            // If the message contains \n then go through and re-set the color after each by caching the last color
-            // Bedrock is dumb and resets the color after a newline
-            if (finalLegacyString.contains("\n")) {
-                StringBuilder output = new StringBuilder();
-
-                StringBuilder lastColors = new StringBuilder();
-                for (int i = 0; i < finalLegacyString.length(); i++) {
-                    char c = finalLegacyString.charAt(i);
-
-                    output.append(c);
-
-                    if (c == ChatColor.ESCAPE) {
-                        // If the string ends with a formatting character, remove and skip
-                        if (i >= finalLegacyString.length() - 1) {
-                            output = output.deleteCharAt(output.length() - 1);
-                            continue;
-                        }
+        if (endsWithReset) {
+            output.setLength(output.length() - RESET.length());
+        } else if (danglingEscape && hasNewline) {
+            // Historically only dropped from multi-line messages
+            output.setLength(output.length() - 1);
+        }
+        return output.toString();
+    }
 
-                        char newColor = finalLegacyString.charAt(i + 1);
-                        if (newColor == 'r') {
-                            lastColors = new StringBuilder();
-                        } else {
-                            lastColors.append(ChatColor.ESCAPE).append(newColor);
-                        }
-                    } else if (c == '\n' && !lastColors.isEmpty()) {
-                        output.append(lastColors);
-                    }
-                }
+    /**
+     * Forgets every converted message, for when the translations they were converted with have changed.
+     */
+    public static void invalidateCache() {
+        MESSAGE_CACHE.invalidateAll();
+    }
 
-                return output.toString();
-            } else {
-                return finalLegacyString;
-            }
-        } catch (Exception e) {
-            GeyserImpl.getInstance().getLogger().debug(GSON_SERIALIZER.serialize(message));
-            GeyserImpl.getInstance().getLogger().error("Failed to parse message", e);
+    public static CacheStats cacheStats() {
+        return MESSAGE_CACHE.stats();
+    }
 
-            return "";
-        }
+    public static long cacheSize() {
+        return MESSAGE_CACHE.size();
     }
 
     public static String convertJsonMessage(String message, String locale) {
@@ -629,4 +662,7 @@ public class MessageTranslator {
     public static void init() {
         // no-op
     }
+
+    private record MessageKey(Component message, String locale, boolean addLeadingResetFormat) {
+    }
 }
@@ -76,5 +76,8 @@ public class BlockEntityUtils {
         blockEntityPacket.setBlockPosition(position);
         blockEntityPacket.setData(blockEntity);
         session.sendUpstreamPacket(blockEntityPacket);
+
+        // Some block entities, such as skulls, are updated from other threads
+        session.ensureInEventLoop(() -> session.getSubChunkCache().updateBlockEntity(position.getX(), position.getY(), position.getZ(), blockEntity));
     }
 }
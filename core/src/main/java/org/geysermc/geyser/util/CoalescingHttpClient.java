@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A non-blocking HTTP client for GET requests that are made for many players at once, such as skins and profile lookups.
+ * <ul>
+ *     <li>Connections are kept alive and reused by the underlying {@link HttpClient}.</li>
+ *     <li>Only a limited amount of requests are sent to each host at a time; the rest wait in line.</li>
+ *     <li>Requests for a URL that is already being fetched share the same response.</li>
+ * </ul>
+ */
+public final class CoalescingHttpClient {
+    private final HttpClient client;
+    private final String userAgent;
+    private final Duration timeout;
+    private final int maxRequestsPerHost;
+
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedRequests = new AtomicInteger();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public CoalescingHttpClient(String userAgent, Duration timeout, int maxRequestsPerHost) {
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+        this.userAgent = userAgent;
+        this.timeout = timeout;
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    /**
+     * Fetches the body of the URL. The returned array is shared between every caller that requested the URL
+     * while it was being fetched, so it must not be modified.
+     *
+     * @return the response body, or a future completed with an {@link IOException} if the response was not successful
+     */
+    public CompletableFuture<byte[]> get(String url) {
+        CompletableFuture<byte[]> existing = inFlight.get(url);
+        if (existing != null) {
+            return existing;
+        }
+
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(url, future);
+        if (existing != null) {
+            return existing;
+        }
+        future.whenComplete((body, throwable) -> inFlight.remove(url, future));
+
+        HostQueue host = hosts.computeIfAbsent(uri.getHost() == null ? "" : uri.getHost(), $ -> new HostQueue());
+        host.submit(() -> send(uri, host, future));
+        return future;
+    }
+
+    /**
+     * Fetches the URL and parses the body as a JSON object.
+     */
+    public CompletableFuture<JsonObject> getJson(String url) {
+        return get(url).thenApply(body -> {
+            try (InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8)) {
+                //noinspection deprecation
+                return new JsonParser().parse(reader).getAsJsonObject();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private void send(URI uri, HostQueue host, CompletableFuture<byte[]> future) {
+        CompletableFuture<HttpResponse<byte[]>> response;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("User-Agent", userAgent)
+                .GET()
+                .build();
+            response = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            // Such as a URL that isn't HTTP
+            host.release();
+            future.completeExceptionally(e);
+            return;
+        }
+
+        long start = System.nanoTime();
+        response.whenComplete((result, throwable) -> {
+            latency.record(System.nanoTime() - start);
+            host.release();
+
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else if (result.statusCode() / 100 != 2) {
+                future.completeExceptionally(new IOException("Unexpected response code " + result.statusCode() + " from " + uri));
+            } else {
+                future.complete(result.body());
+            }
+        });
+    }
+
+    /**
+     * @return the amount of requests waiting for a free slot for their host
+     */
+    public int queuedRequests() {
+        return queuedRequests.get();
+    }
+
+    /**
+     * @return the amount of requests that have been sent and are awaiting a response
+     */
+    public int activeRequests() {
+        return activeRequests.get();
+    }
+
+    /**
+     * @return the time between sending each request and receiving its full response (or failure)
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    private final class HostQueue {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+
+        void submit(Runnable request) {
+            synchronized (this) {
+                if (active >= maxRequestsPerHost) {
+                    waiting.add(request);
+                    queuedRequests.incrementAndGet();
+                    return;
+                }
+                active++;
+            }
+            activeRequests.incrementAndGet();
+            request.run();
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    active--;
+                }
+            }
+            if (next == null) {
+                activeRequests.decrementAndGet();
+                return;
+            }
+            queuedRequests.decrementAndGet();
+            next.run();
+        }
+    }
+}
@@ -57,6 +57,8 @@ public class DimensionUtils {
         Entity player = session.getPlayerEntity();
 
         session.getChunkCache().clear();
+        session.getSubChunkCache().clear();
+        session.getChunkBlobCache().clear();
         session.getEntityCache().removeAllEntities();
         session.getItemFrameCache().clear();
         session.getLodestoneCache().clear();
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+/**
+ * Converts and resizes images as whole arrays of pixels, rather than going through {@link BufferedImage#getRGB(int, int)}
+ * or {@link java.awt.Graphics2D} for every pixel.
+ * <p>
+ * Pixels are either Java's packed ARGB ints, or the RGBA bytes that Bedrock uses for skins and capes. Methods that
+ * take a destination array reuse it if it's large enough, and otherwise allocate a new one.
+ */
+public final class ImageUtils {
+    private static final DirectColorModel ARGB_MODEL = (DirectColorModel) ColorModel.getRGBdefault();
+
+    private ImageUtils() {
+    }
+
+    /**
+     * @return the image as RGBA bytes
+     */
+    public static byte[] toRgba(BufferedImage image) {
+        return argbToRgba(toArgb(image), image.getWidth() * image.getHeight(), null);
+    }
+
+    /**
+     * Creates an image from RGBA bytes, writing straight into the image's backing array.
+     */
+    public static BufferedImage fromRgba(byte[] rgba, int width, int height) {
+        return fromArgb(rgbaToArgb(rgba, width * height, null), width, height);
+    }
+
+    /**
+     * @return the pixels of the image as ARGB ints. For images created by {@link #fromArgb(int[], int, int)}
+     * (and other unshared ARGB images), this is the image's own backing array.
+     */
+    public static int[] toArgb(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        WritableRaster raster = image.getRaster();
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB
+                && raster.getDataBuffer() instanceof DataBufferInt buffer
+                && buffer.getOffset() == 0
+                && raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0
+                && raster.getSampleModel() instanceof SinglePixelPackedSampleModel sampleModel
+                && sampleModel.getScanlineStride() == width) {
+            return buffer.getData();
+        }
+        // Still converts every pixel, but without the per-call overhead of getRGB(x, y)
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+
+    /**
+     * Wraps the ARGB pixels in an image without copying them.
+     */
+    public static BufferedImage fromArgb(int[] argb, int width, int height) {
+        DataBuffer buffer = new DataBufferInt(argb, width * height);
+        WritableRaster raster = Raster.createPackedRaster(buffer, width, height, width, ARGB_MODEL.getMasks(), null);
+        return new BufferedImage(ARGB_MODEL, raster, false, null);
+    }
+
+    public static byte[] argbToRgba(int[] argb, int pixels, byte @Nullable [] destination) {
+        byte[] rgba = destination != null && destination.length >= pixels * 4 ? destination : new byte[pixels * 4];
+        for (int i = 0, j = 0; i < pixels; i++, j += 4) {
+            int pixel = argb[i];
+            rgba[j] = (byte) (pixel >> 16);
+            rgba[j + 1] = (byte) (pixel >> 8);
+            rgba[j + 2] = (byte) pixel;
+            rgba[j + 3] = (byte) (pixel >>> 24);
+        }
+        return rgba;
+    }
+
+    public static int[] rgbaToArgb(byte[] rgba, int pixels, int @Nullable [] destination) {
+        int[] argb = destination != null && destination.length >= pixels ? destination : new int[pixels];
+        for (int i = 0, j = 0; i < pixels; i++, j += 4) {
+            argb[i] = (rgba[j] & 0xFF) << 16 | (rgba[j + 1] & 0xFF) << 8 | rgba[j + 2] & 0xFF | (rgba[j + 3] & 0xFF) << 24;
+        }
+        return argb;
+    }
+
+    /**
+     * Places the source in the top left corner of a new canvas, which is transparent wherever the source does not
+     * reach. Parts of the source outside the canvas are cut off.
+     */
+    public static int[] pad(int[] source, int sourceWidth, int sourceHeight, int width, int height, int @Nullable [] destination) {
+        int[] result = destination != null && destination.length >= width * height ? destination : new int[width * height];
+        int copyWidth = Math.min(sourceWidth, width);
+        int copyHeight = Math.min(sourceHeight, height);
+        for (int y = 0; y < copyHeight; y++) {
+            System.arraycopy(source, y * sourceWidth, result, y * width, copyWidth);
+            Arrays.fill(result, y * width + copyWidth, (y + 1) * width, 0);
+        }
+        Arrays.fill(result, copyHeight * width, width * height, 0);
+        return result;
+    }
+
+    /**
+     * Copies a rectangle of pixels from one image into another.
+     */
+    public static void copyRegion(int[] source, int sourceWidth, int sourceX, int sourceY,
+                                  int[] destination, int destinationWidth, int destinationX, int destinationY,
+                                  int width, int height) {
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(source, (sourceY + y) * sourceWidth + sourceX, destination, (destinationY + y) * destinationWidth + destinationX, width);
+        }
+    }
+
+    public static int[] scaleNearest(int[] source, int sourceWidth, int sourceHeight, int width, int height, int @Nullable [] destination) {
+        int[] result = destination != null && destination.length >= width * height ? destination : new int[width * height];
+        for (int y = 0; y < height; y++) {
+            int sourceRow = (int) ((long) y * sourceHeight / height) * sourceWidth;
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                result[row + x] = source[sourceRow + (int) ((long) x * sourceWidth / width)];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scales with bilinear filtering, sampling at pixel centres and clamping at the edges.
+     */
+    public static int[] scaleBilinear(int[] source, int sourceWidth, int sourceHeight, int width, int height, int @Nullable [] destination) {
+        int[] result = destination != null && destination.length >= width * height ? destination : new int[width * height];
+        if (width == sourceWidth && height == sourceHeight) {
+            System.arraycopy(source, 0, result, 0, width * height);
+            return result;
+        }
+
+        float xRatio = (float) sourceWidth / width;
+        float yRatio = (float) sourceHeight / height;
+        for (int y = 0; y < height; y++) {
+            float sourceY = Math.max(0, (y + 0.5f) * yRatio - 0.5f);
+            int y0 = Math.min((int) sourceY, sourceHeight - 1);
+            int y1 = Math.min(y0 + 1, sourceHeight - 1);
+            float yWeight = sourceY - y0;
+            for (int x = 0; x < width; x++) {
+                float sourceX = Math.max(0, (x + 0.5f) * xRatio - 0.5f);
+                int x0 = Math.min((int) sourceX, sourceWidth - 1);
+                int x1 = Math.min(x0 + 1, sourceWidth - 1);
+                float xWeight = sourceX - x0;
+
+                int topLeft = source[y0 * sourceWidth + x0];
+                int topRight = source[y0 * sourceWidth + x1];
+                int bottomLeft = source[y1 * sourceWidth + x0];
+                int bottomRight = source[y1 * sourceWidth + x1];
+
+                int pixel = 0;
+                for (int shift = 0; shift < 32; shift += 8) {
+                    float top = ((topLeft >>> shift) & 0xFF) * (1 - xWeight) + ((topRight >>> shift) & 0xFF) * xWeight;
+                    float bottom = ((bottomLeft >>> shift) & 0xFF) * (1 - xWeight) + ((bottomRight >>> shift) & 0xFF) * xWeight;
+                    pixel |= Math.round(top * (1 - yWeight) + bottom * yWeight) << shift;
+                }
+                result[y * width + x] = pixel;
+            }
+        }
+        return result;
+    }
+}
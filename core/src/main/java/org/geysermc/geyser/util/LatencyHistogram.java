@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-bucket histogram of durations that can be recorded from any thread without locking.
+ */
+public final class LatencyHistogram {
+    private static final long[] DEFAULT_BOUNDS_MILLIS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final long[] boundsMillis;
+    private final long[] boundsNanos;
+    /**
+     * One bucket per bound, plus one for everything above the last bound.
+     */
+    private final LongAdder[] buckets;
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        this(DEFAULT_BOUNDS_MILLIS);
+    }
+
+    public LatencyHistogram(long... boundsMillis) {
+        this.boundsMillis = boundsMillis.clone();
+        this.boundsNanos = new long[boundsMillis.length];
+        for (int i = 0; i < boundsMillis.length; i++) {
+            this.boundsNanos[i] = TimeUnit.MILLISECONDS.toNanos(boundsMillis[i]);
+        }
+        this.buckets = new LongAdder[boundsMillis.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < boundsNanos.length && nanos > boundsNanos[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * @return the upper bound, in milliseconds, of every bucket except the last, which has no upper bound
+     */
+    public long[] boundsMillis() {
+        return boundsMillis.clone();
+    }
+
+    /**
+     * @return the amount of durations recorded at or below each bound, followed by the total count
+     */
+    public long[] cumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            total += buckets[i].sum();
+            counts[i] = total;
+        }
+        return counts;
+    }
+
+    public long count() {
+        long total = 0;
+        for (LongAdder bucket : buckets) {
+            total += bucket.sum();
+        }
+        return total;
+    }
+
+    public long sumNanos() {
+        return sumNanos.sum();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.entity;
+
+import org.geysermc.geyser.entity.type.Entity;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EntityUpdateQueueTest {
+
+    @Test
+    public void testMovementIsSentBeforeMetadata() {
+        EntityUpdateScheduler scheduler = scheduler(true);
+        EntityUpdateQueue queue = new EntityUpdateQueue(scheduler);
+        Entity first = entity();
+        Entity second = entity();
+
+        queue.queueMetadata(first);
+        queue.queueMovement(second);
+        queue.queueMovement(first);
+        queue.queueMetadata(first);
+        queue.flush();
+
+        InOrder order = inOrder(first, second);
+        order.verify(second).sendQueuedMovement();
+        order.verify(first).sendQueuedMovement();
+        order.verify(first).updateBedrockMetadata();
+        verify(first, times(1)).sendQueuedMovement();
+        verify(first, times(1)).updateBedrockMetadata();
+    }
+
+    @Test
+    public void testEntityFlushSendsQueuedUpdatesOnce() {
+        EntityUpdateQueue queue = new EntityUpdateQueue(scheduler(true));
+        Entity entity = entity();
+
+        queue.queueMovement(entity);
+        queue.queueMetadata(entity);
+        // Done before a packet that is sent right away, like an animation
+        queue.flush(entity);
+
+        InOrder order = inOrder(entity);
+        order.verify(entity).sendQueuedMovement();
+        order.verify(entity).updateBedrockMetadata();
+
+        // Nothing is left for the end of the tick
+        queue.flush();
+        verify(entity, times(1)).sendQueuedMovement();
+        verify(entity, times(1)).updateBedrockMetadata();
+    }
+
+    @Test
+    public void testEntityFlushIgnoresDistance() {
+        EntityUpdateScheduler scheduler = scheduler(false);
+        EntityUpdateQueue queue = new EntityUpdateQueue(scheduler);
+        Entity entity = entity();
+
+        queue.queueMovement(entity);
+        queue.flush();
+        // Far away, so the movement is held back
+        verify(entity, never()).sendQueuedMovement();
+
+        queue.flush(entity);
+        verify(entity).sendQueuedMovement();
+
+        queue.flush();
+        verify(entity, times(1)).sendQueuedMovement();
+    }
+
+    @Test
+    public void testEntityFlushLeavesOtherEntitiesQueued() {
+        EntityUpdateQueue queue = new EntityUpdateQueue(scheduler(true));
+        Entity flushed = entity();
+        Entity other = entity();
+
+        queue.queueMovement(other);
+        queue.queueMetadata(other);
+        queue.queueMovement(flushed);
+        queue.flush(flushed);
+
+        verify(other, never()).sendQueuedMovement();
+        verify(other, never()).updateBedrockMetadata();
+
+        queue.flush();
+        verify(other).sendQueuedMovement();
+        verify(other).updateBedrockMetadata();
+    }
+
+    @Test
+    public void testRemovedEntityMovementIsNotHeld() {
+        EntityUpdateQueue queue = new EntityUpdateQueue(scheduler(false));
+        Entity entity = entity();
+        when(entity.isValid()).thenReturn(false);
+
+        queue.queueMovement(entity);
+        queue.flush();
+        // Sent (or rather dropped) right away, so the entity isn't kept around
+        verify(entity).sendQueuedMovement();
+    }
+
+    private static EntityUpdateScheduler scheduler(boolean due) {
+        EntityUpdateScheduler scheduler = mock(EntityUpdateScheduler.class);
+        when(scheduler.isDue(any())).thenReturn(due);
+        return scheduler;
+    }
+
+    private static Entity entity() {
+        Entity entity = mock(Entity.class);
+        when(entity.isValid()).thenReturn(true);
+        when(entity.sendQueuedMovement()).thenReturn(true);
+        return entity;
+    }
+}
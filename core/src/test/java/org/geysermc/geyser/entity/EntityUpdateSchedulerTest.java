@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.entity;
+
+import org.cloudburstmc.math.vector.Vector3f;
+import org.geysermc.geyser.entity.type.Entity;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EntityUpdateSchedulerTest {
+    private static final Vector3f PLAYER_POSITION = Vector3f.from(100, 64, 100);
+
+    @Test
+    public void testNearbyEntitiesAreNeverThrottled() {
+        GeyserSession session = session(List.of(32, 64));
+        EntityUpdateScheduler scheduler = new EntityUpdateScheduler(session);
+
+        // In front of, behind, beside, above and below the player, up to just inside the first distance
+        float[][] offsets = {{0, 0, 5}, {0, 0, -5}, {5, 0, 0}, {-5, 0, 0}, {0, 20, 0}, {0, -20, 0}, {0, 0, 31.9f}, {0, 0, -31.9f}, {20, 10, -20}};
+        for (float[] offset : offsets) {
+            Entity entity = entity(offset[0], offset[1], offset[2]);
+            assertEquals(1, scheduler.updateInterval(entity));
+            for (int tick = 0; tick < 16; tick++) {
+                when(session.getTicks()).thenReturn(tick);
+                assertTrue(scheduler.isDue(entity));
+            }
+        }
+    }
+
+    @Test
+    public void testDistantEntitiesAreThrottled() {
+        GeyserSession session = session(List.of(32, 64));
+        EntityUpdateScheduler scheduler = new EntityUpdateScheduler(session);
+
+        // The player looks towards positive Z
+        assertEquals(2, scheduler.updateInterval(entity(0, 0, 40)));
+        assertEquals(4, scheduler.updateInterval(entity(0, 0, -40)));
+        assertEquals(4, scheduler.updateInterval(entity(0, 0, 80)));
+        assertEquals(8, scheduler.updateInterval(entity(0, 0, -80)));
+    }
+
+    @Test
+    public void testThrottledEntitiesAreStillUpdated() {
+        GeyserSession session = session(List.of(32, 64));
+        EntityUpdateScheduler scheduler = new EntityUpdateScheduler(session);
+        Entity entity = entity(0, 0, -80);
+
+        int updates = 0;
+        for (int tick = 0; tick < 64; tick++) {
+            when(session.getTicks()).thenReturn(tick);
+            if (scheduler.isDue(entity)) {
+                updates++;
+            }
+        }
+        assertEquals(64 / 8, updates);
+    }
+
+    @Test
+    public void testVehicleIsNeverThrottled() {
+        GeyserSession session = session(List.of(32, 64));
+        EntityUpdateScheduler scheduler = new EntityUpdateScheduler(session);
+        Entity vehicle = entity(0, 0, -80);
+        when(session.getPlayerEntity().getVehicle()).thenReturn(vehicle);
+
+        assertEquals(1, scheduler.updateInterval(vehicle));
+    }
+
+    @Test
+    public void testNoDistancesDisablesThrottling() {
+        GeyserSession session = session(List.of());
+        EntityUpdateScheduler scheduler = new EntityUpdateScheduler(session);
+
+        assertEquals(1, scheduler.updateInterval(entity(0, 0, -500)));
+    }
+
+    private static GeyserSession session(List<Integer> distances) {
+        GeyserSession session = mock(GeyserSession.class, RETURNS_DEEP_STUBS);
+        when(session.getGeyser().config().advanced().entityUpdateDistances()).thenReturn(distances);
+        SessionPlayerEntity player = mock(SessionPlayerEntity.class);
+        when(player.position()).thenReturn(PLAYER_POSITION);
+        when(player.getYaw()).thenReturn(0f);
+        when(session.getPlayerEntity()).thenReturn(player);
+        return session;
+    }
+
+    private static Entity entity(float x, float y, float z) {
+        Entity entity = mock(Entity.class);
+        when(entity.position()).thenReturn(PLAYER_POSITION.add(x, y, z));
+        return entity;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.session.GeyserSession;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+public class ChunkEncodingQueueTest {
+    /**
+     * Conversions that have been handed to the pool, run by the test in any order it wants.
+     */
+    private final List<Runnable> conversions = new ArrayList<>();
+    private final List<String> handled = new ArrayList<>();
+    private String dimension = "overworld";
+
+    @Test
+    public void testChunksAreConvertedTogether() {
+        withPool(queue -> {
+            receiveChunk(queue, "a");
+            receiveChunk(queue, "b");
+            // Neither chunk waits for the other to be converted
+            assertEquals(2, conversions.size());
+
+            // The second chunk finishing first is still sent second
+            conversions.get(1).run();
+            assertEquals(List.of(), handled);
+            conversions.get(0).run();
+            assertEquals(List.of("a in overworld", "b in overworld"), handled);
+        });
+    }
+
+    @Test
+    public void testChunkAfterRespawnUsesNewDimension() {
+        withPool(queue -> {
+            receiveChunk(queue, "a");
+            receivePacket(queue, "respawn", () -> dimension = "nether");
+            receiveChunk(queue, "b");
+            receivePacket(queue, "block update", () -> {});
+
+            // The second chunk can't be converted until the respawn has been handled
+            assertEquals(1, conversions.size());
+            assertEquals("overworld", dimension);
+
+            conversions.get(0).run();
+            assertEquals(List.of("a in overworld", "respawn"), handled);
+            assertEquals(2, conversions.size());
+            assertEquals(2, queue.size());
+
+            // The block update is still held back for the second chunk, which it was received after
+            conversions.get(1).run();
+            assertEquals(List.of("a in overworld", "respawn", "b in nether", "block update"), handled);
+            assertEquals(0, queue.size());
+        });
+    }
+
+    private void receiveChunk(ChunkEncodingQueue queue, String name) {
+        Runnable translate = () -> {
+            // What the chunk is converted with is taken when it is translated, like the dimension
+            String snapshot = dimension;
+            queue.submit(() -> name + " in " + snapshot, handled::add);
+        };
+        if (!queue.deferIfBlocked(translate)) {
+            translate.run();
+        }
+    }
+
+    private void receivePacket(ChunkEncodingQueue queue, String name, Runnable action) {
+        Runnable translate = () -> {
+            action.run();
+            handled.add(name);
+        };
+        if (!queue.deferIfPending(translate)) {
+            translate.run();
+        }
+    }
+
+    private void withPool(Consumer<ChunkEncodingQueue> test) {
+        ChunkEncodingPool pool = mock(ChunkEncodingPool.class);
+        when(pool.executor()).thenReturn(conversions::add);
+
+        GeyserImpl geyser = mock(GeyserImpl.class, RETURNS_DEEP_STUBS);
+        when(geyser.getChunkEncodingPool()).thenReturn(pool);
+
+        GeyserSession session = mock(GeyserSession.class);
+        // The test itself plays the event loop
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(session).ensureInEventLoop(any(Runnable.class));
+
+        try (MockedStatic<GeyserImpl> geyserImpl = mockStatic(GeyserImpl.class)) {
+            geyserImpl.when(GeyserImpl::getInstance).thenReturn(geyser);
+            test.accept(new ChunkEncodingQueue(session));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GeyserChunkTest {
+    private static final int SIZE = 4096;
+
+    @Test
+    public void testSingletonSection() {
+        GeyserChunk chunk = new GeyserChunk(1, 16);
+        chunk.set(0, 3, 4, 5, 0);
+        assertEquals(0, chunk.bitsPerEntry(0));
+        assertEquals(0, chunk.get(0, 3, 4, 5));
+
+        chunk.set(0, 3, 4, 5, 7);
+        assertEquals(4, chunk.bitsPerEntry(0));
+        assertEquals(7, chunk.get(0, 3, 4, 5));
+        assertEquals(0, chunk.get(0, 4, 4, 5));
+    }
+
+    @Test
+    public void testEveryPaletteWidth() {
+        // Covers every width a palette can have, and every width the global palette can have
+        for (int globalBits = 9; globalBits <= 16; globalBits++) {
+            GeyserChunk chunk = new GeyserChunk(2, globalBits);
+            int[] expected = new int[SIZE];
+            Random random = new Random(globalBits);
+            int lastBits = 0;
+
+            // Java uses 4 bits up to 16 states, 5 bits up to 32 and so on, then the global palette past 256 states
+            for (int state = 1; state <= 300; state++) {
+                for (int i = 0; i < 8; i++) {
+                    int index = random.nextInt(SIZE);
+                    chunk.set(1, index & 0xF, index >> 8, (index >> 4) & 0xF, state);
+                    expected[index] = state;
+                }
+                // Make sure every state stays in the palette
+                chunk.set(1, state & 0xF, (state >> 8) & 0xF, (state >> 4) & 0xF, state);
+                expected[(state >> 8 & 0xF) << 8 | (state >> 4 & 0xF) << 4 | state & 0xF] = state;
+
+                int bits = chunk.bitsPerEntry(1);
+                int paletteSize = state + 1;
+                int expectedBits = paletteSize > 256 ? globalBits : Math.max(4, Integer.SIZE - Integer.numberOfLeadingZeros(paletteSize - 1));
+                assertEquals(expectedBits, bits, "bits with " + paletteSize + " states");
+                if (bits != lastBits) {
+                    assertSection(chunk, 1, expected);
+                    lastBits = bits;
+                }
+            }
+            assertEquals(globalBits, chunk.bitsPerEntry(1));
+            assertSection(chunk, 1, expected);
+            // The other section is untouched
+            assertEquals(0, chunk.bitsPerEntry(0));
+        }
+    }
+
+    @Test
+    public void testGlobalPaletteKeepsStates() {
+        GeyserChunk chunk = new GeyserChunk(1, 15);
+        int[] expected = new int[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            // Spread states out so they don't fit into eight bits either
+            int state = (index % 257) * 97;
+            chunk.set(0, index & 0xF, index >> 8, (index >> 4) & 0xF, state);
+            expected[index] = state;
+        }
+        assertEquals(15, chunk.bitsPerEntry(0));
+        assertSection(chunk, 0, expected);
+
+        // Writing into the global palette still works afterward
+        chunk.set(0, 0, 0, 0, 32767);
+        expected[0] = 32767;
+        assertSection(chunk, 0, expected);
+    }
+
+    @Test
+    public void testMemoryUsageGrowsWithPalette() {
+        GeyserChunk chunk = new GeyserChunk(24, 15);
+        long empty = chunk.estimateMemoryUsage();
+        chunk.set(0, 0, 0, 0, 1);
+        long palette = chunk.estimateMemoryUsage();
+        assertTrue(palette > empty);
+        for (int state = 2; state <= 300; state++) {
+            chunk.set(0, state & 0xF, state >> 8, (state >> 4) & 0xF, state);
+        }
+        assertTrue(chunk.estimateMemoryUsage() > palette);
+    }
+
+    @Test
+    public void testSetReturnsMemoryUsageChange() {
+        GeyserChunk chunk = new GeyserChunk(24, 15);
+        long usage = chunk.estimateMemoryUsage();
+        // Expanding a singleton, growing the palette and its data, then switching to the global palette
+        for (int state = 1; state <= 300; state++) {
+            usage += chunk.set(2, state & 0xF, state >> 8, (state >> 4) & 0xF, state);
+            assertEquals(chunk.estimateMemoryUsage(), usage, "state " + state);
+        }
+        // Rewriting states that are already in the palette doesn't change anything
+        assertEquals(0, chunk.set(2, 0, 0, 0, 300));
+        assertEquals(0, chunk.set(3, 0, 0, 0, 0));
+    }
+
+    private static void assertSection(GeyserChunk chunk, int section, int[] expected) {
+        for (int index = 0; index < SIZE; index++) {
+            assertEquals(expected[index], chunk.get(section, index & 0xF, index >> 8, (index >> 4) & 0xF), "index " + index);
+        }
+    }
+}
@@ -87,6 +87,30 @@ public class MessageTranslatorTest {
         }
     }
 
+    @Test
+    public void convertLegacyForBedrock() {
+        // A reset is added before each color, as Bedrock doesn't reset the formatting when a color is applied
+        Assertions.assertEquals("§r§cRed§lBold", MessageTranslator.toBedrockLegacy("§cRed§lBold", true), "Nested style is not kept");
+        Assertions.assertEquals("§r§6A§lB§r§b§lC§r§6D", MessageTranslator.toBedrockLegacy("§6A§lB§b§lC§6D", true), "Nested styles are not reset between colors");
+        Assertions.assertEquals("§eNo leading reset", MessageTranslator.toBedrockLegacy("§eNo leading reset", false), "Leading reset is added when it shouldn't be");
+
+        // Repeated resets are collapsed, a color right after a reset needs no other one, and a trailing reset is dropped
+        Assertions.assertEquals("§r§aGreen", MessageTranslator.toBedrockLegacy("§r§r§aGreen§r", true), "Redundant resets are not removed");
+        Assertions.assertEquals("A§r§lB", MessageTranslator.toBedrockLegacy("A§r§lB§r§r", true), "Reset before a style is not kept");
+
+        // The formatting in use is applied again after a newline
+        Assertions.assertEquals("§r§e§lHi\n§e§lthere", MessageTranslator.toBedrockLegacy("§e§lHi\nthere", true), "Formatting is not restored after a newline");
+        Assertions.assertEquals("§eA§r\nB", MessageTranslator.toBedrockLegacy("§eA§r\nB", false), "Formatting from before a reset is applied again after a newline");
+
+        // A formatting character at the very end is only dropped from multi-line messages
+        Assertions.assertEquals("Hi§", MessageTranslator.toBedrockLegacy("Hi§", true));
+        Assertions.assertEquals("A\nB", MessageTranslator.toBedrockLegacy("A\nB§", true));
+
+        // Translatable arguments keep their own style, and the translation's style is applied again after them
+        Assertions.assertEquals("§r§bSteve§r§e joined the game", MessageTranslator.convertJsonMessage("{\"translate\":\"%s joined %s\",\"color\":\"yellow\",\"with\":[{\"text\":\"Steve\",\"color\":\"aqua\"},\"the game\"]}", "en_US"));
+        Assertions.assertEquals("B then A", MessageTranslator.convertJsonMessage("{\"translate\":\"%2$s then %1$s\",\"with\":[\"A\",\"B\"]}", "en_US"));
+    }
+
     @Test
     public void convertMessageLenient() {
         Assertions.assertEquals("\n\n\n\n", MessageTranslator.convertMessageLenient("\n\n\n\n"), "All newline message is not handled properly");
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.protocol.bedrock.data.definitions.ItemDefinition;
+import org.cloudburstmc.protocol.bedrock.data.definitions.SimpleItemDefinition;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ContainerClosePacket;
+import org.cloudburstmc.protocol.bedrock.packet.InventoryContentPacket;
+import org.cloudburstmc.protocol.bedrock.packet.InventorySlotPacket;
+import org.cloudburstmc.protocol.bedrock.packet.RespawnPacket;
+import org.geysermc.geyser.session.GeyserSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class InventoryContentCacheTest {
+    private static final int CONTAINER_ID = 5;
+    private static final ItemDefinition STONE = new SimpleItemDefinition("minecraft:stone", 1, false);
+    private static final ItemDefinition DIRT = new SimpleItemDefinition("minecraft:dirt", 2, false);
+
+    private final List<BedrockPacket> sent = new ArrayList<>();
+    private InventoryContentCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        GeyserSession session = mock(GeyserSession.class);
+        cache = new InventoryContentCache(session);
+        // Like the session, every packet sent passes through the cache
+        doAnswer(invocation -> {
+            BedrockPacket packet = invocation.getArgument(0);
+            cache.onPacketSent(packet);
+            sent.add(packet);
+            return null;
+        }).when(session).sendUpstreamPacket(any());
+    }
+
+    @Test
+    public void testFirstUpdateIsSentInFull() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+
+        assertEquals(1, sent.size());
+        InventoryContentPacket packet = assertInstanceOf(InventoryContentPacket.class, sent.get(0));
+        assertEquals(CONTAINER_ID, packet.getContainerId());
+        assertEquals(9, packet.getContents().size());
+    }
+
+    @Test
+    public void testOnlyChangedSlotsAreSent() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        sent.clear();
+
+        List<ItemData> contents = contents(9);
+        contents.set(3, item(DIRT, 1));
+        contents.set(7, item(STONE, 64));
+        cache.sendContents(CONTAINER_ID, contents);
+
+        assertEquals(2, sent.size());
+        InventorySlotPacket first = assertInstanceOf(InventorySlotPacket.class, sent.get(0));
+        assertEquals(CONTAINER_ID, first.getContainerId());
+        assertEquals(3, first.getSlot());
+        assertEquals(contents.get(3), first.getItem());
+        InventorySlotPacket second = assertInstanceOf(InventorySlotPacket.class, sent.get(1));
+        assertEquals(7, second.getSlot());
+
+        // The cache now knows about the changed slots as well
+        sent.clear();
+        cache.sendContents(CONTAINER_ID, contents);
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void testUnchangedContentsAreNotSent() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        sent.clear();
+
+        // Equal, but not the same instances
+        cache.sendContents(CONTAINER_ID, contents(9));
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void testMostlyChangedContentsAreSentInFull() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        sent.clear();
+
+        List<ItemData> contents = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            contents.add(i < 5 ? item(DIRT, i + 1) : item(STONE, i + 1));
+        }
+        cache.sendContents(CONTAINER_ID, contents);
+
+        assertEquals(1, sent.size());
+        assertInstanceOf(InventoryContentPacket.class, sent.get(0));
+    }
+
+    @Test
+    public void testResizedContainerIsSentInFull() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        sent.clear();
+
+        cache.sendContents(CONTAINER_ID, contents(18));
+        assertEquals(1, sent.size());
+        assertInstanceOf(InventoryContentPacket.class, sent.get(0));
+    }
+
+    @Test
+    public void testInvalidateSendsInFull() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        sent.clear();
+
+        // For example, the client predicted an item being used
+        cache.invalidate();
+        cache.sendContents(CONTAINER_ID, contents(9));
+        assertEquals(1, sent.size());
+        assertInstanceOf(InventoryContentPacket.class, sent.get(0));
+    }
+
+    @Test
+    public void testRespawnInvalidates() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        cache.onPacketSent(new RespawnPacket());
+        sent.clear();
+
+        cache.sendContents(CONTAINER_ID, contents(9));
+        assertEquals(1, sent.size());
+    }
+
+    @Test
+    public void testClosedContainerIsForgotten() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        cache.sendContents(CONTAINER_ID + 1, contents(9));
+        ContainerClosePacket closePacket = new ContainerClosePacket();
+        closePacket.setId((byte) CONTAINER_ID);
+        cache.onPacketSent(closePacket);
+        sent.clear();
+
+        cache.sendContents(CONTAINER_ID, contents(9));
+        assertEquals(1, sent.size());
+        assertInstanceOf(InventoryContentPacket.class, sent.get(0));
+
+        // Other containers are still known
+        sent.clear();
+        cache.sendContents(CONTAINER_ID + 1, contents(9));
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void testSlotUpdatesFromElsewhereAreTracked() {
+        cache.sendContents(CONTAINER_ID, contents(9));
+        InventorySlotPacket slotPacket = new InventorySlotPacket();
+        slotPacket.setContainerId(CONTAINER_ID);
+        slotPacket.setSlot(2);
+        slotPacket.setItem(item(DIRT, 1));
+        cache.onPacketSent(slotPacket);
+        sent.clear();
+
+        // Slot 2 has to be changed back
+        cache.sendContents(CONTAINER_ID, contents(9));
+        assertEquals(1, sent.size());
+        assertEquals(2, assertInstanceOf(InventorySlotPacket.class, sent.get(0)).getSlot());
+    }
+
+    private static List<ItemData> contents(int size) {
+        List<ItemData> contents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            contents.add(i % 2 == 0 ? ItemData.AIR : item(STONE, i));
+        }
+        return contents;
+    }
+
+    private static ItemData item(ItemDefinition definition, int count) {
+        return ItemData.builder()
+            .definition(definition)
+            .count(count)
+            .build();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.nbt.NbtMap;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.level.chunk.GeyserChunkSection;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.geyser.registry.type.GeyserBedrockBlock;
+import org.geysermc.geyser.session.GeyserSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SubChunkCacheTest {
+    static final int AIR = 0;
+    static final int STONE = 1;
+    static final int ITEM_FRAME = 2;
+
+    @Test
+    public void testColumnsAreStoredPerChunk() {
+        SubChunkCache cache = new SubChunkCache(mockSession());
+        NbtMap sign = blockEntity("Sign", 35, -60, -44);
+        cache.addColumn(2, -3, sections(), new ArrayList<>(List.of(sign)));
+
+        assertNull(cache.getColumn(0, 0));
+        SubChunkCache.Column column = cache.getColumn(2, -3);
+        assertNotNull(column);
+        assertEquals(BedrockDimension.OVERWORLD_ID, column.getDimension());
+        assertEquals(-4, column.getMinSectionY());
+        assertEquals(List.of(sign), column.blockEntities(0));
+        assertNull(column.blockEntities(1));
+
+        assertNotNull(column.section(0));
+        // Sections that are missing or only contain air are not sent
+        assertNull(column.section(1));
+        assertNull(column.section(2));
+        assertNull(column.section(-1));
+
+        cache.removeColumn(2, -3);
+        assertNull(cache.getColumn(2, -3));
+    }
+
+    @Test
+    public void testBlockEntityUpdatesReplaceCachedTags() {
+        SubChunkCache cache = new SubChunkCache(mockSession());
+        cache.addColumn(0, 0, sections(), new ArrayList<>(List.of(blockEntity("Sign", 1, -60, 2))));
+
+        NbtMap updated = blockEntity("Sign", 1, -60, 2);
+        cache.updateBlockEntity(1, -60, 2, updated);
+        List<NbtMap> blockEntities = cache.getColumn(0, 0).blockEntities(0);
+        assertEquals(1, blockEntities.size());
+        assertSame(updated, blockEntities.get(0));
+
+        // A section without block entities gets its first one
+        NbtMap chest = blockEntity("Chest", 3, -40, 4);
+        cache.updateBlockEntity(3, -40, 4, chest);
+        assertEquals(List.of(chest), cache.getColumn(0, 0).blockEntities(1));
+
+        // Updates for columns the client was never sent are ignored
+        cache.updateBlockEntity(100, 0, 100, chest);
+        assertNull(cache.getColumn(6, 6));
+    }
+
+    @Test
+    public void testItemFramesAreKeptInCachedSections() {
+        SubChunkCache cache = new SubChunkCache(mockSession());
+        cache.addColumn(0, 0, sections(), new ArrayList<>());
+
+        // Item frames are entities on Java, so only the Bedrock block is known
+        NbtMap frame = blockEntity("ItemFrame", 2, -44, 3);
+        cache.updateBedrockBlock(2, -44, 3, ITEM_FRAME);
+        cache.updateBlockEntity(2, -44, 3, frame);
+
+        SubChunkCache.Column column = cache.getColumn(0, 0);
+        assertEquals(ITEM_FRAME, column.section(1).getFullBlock(2, 4, 3, 0));
+        assertEquals(List.of(frame), column.blockEntities(1));
+
+        // A frame in a missing section creates it
+        cache.updateBedrockBlock(5, -28, 6, ITEM_FRAME);
+        assertEquals(ITEM_FRAME, cache.getColumn(0, 0).section(2).getFullBlock(5, 4, 6, 0));
+
+        // Removing the frame leaves the section empty again and drops its block entity
+        cache.updateBedrockBlock(2, -44, 3, AIR);
+        assertNull(cache.getColumn(0, 0).section(1));
+        assertEquals(List.of(), cache.getColumn(0, 0).blockEntities(1));
+    }
+
+    @Test
+    public void testHeightMap() {
+        SubChunkCache cache = new SubChunkCache(mockSession());
+        GeyserChunkSection[] sections = sections();
+        sections[2] = new GeyserChunkSection(AIR, -2);
+        sections[2].setFullBlock(4, 7, 5, 0, STONE);
+        cache.addColumn(0, 0, sections, new ArrayList<>());
+
+        short[] heightMap = cache.getColumn(0, 0).heightMap(AIR);
+        // Highest block is in section 2
+        assertEquals((2 << 4) + 7, heightMap[(5 << 4) | 4]);
+        // Section 0 has a block at 0, 3, 0
+        assertEquals(3, heightMap[0]);
+        assertEquals(-1, heightMap[(15 << 4) | 15]);
+    }
+
+    @Test
+    public void testClear() {
+        SubChunkCache cache = new SubChunkCache(mockSession());
+        cache.addColumn(0, 0, sections(), new ArrayList<>());
+        cache.clear();
+        assertNull(cache.getColumn(0, 0));
+    }
+
+    /**
+     * Creates the sections of an overworld column, where only the bottom section has a block, at 0, 3, 0.
+     * Section 1 is only air and section 2 is missing.
+     */
+    static GeyserChunkSection[] sections() {
+        GeyserChunkSection[] sections = new GeyserChunkSection[BedrockDimension.OVERWORLD.height() >> 4];
+        sections[0] = new GeyserChunkSection(AIR, -4);
+        sections[0].setFullBlock(0, 3, 0, 0, STONE);
+        sections[1] = new GeyserChunkSection(AIR, -3);
+        return sections;
+    }
+
+    static NbtMap blockEntity(String id, int x, int y, int z) {
+        return NbtMap.builder()
+            .putString("id", id)
+            .putInt("x", x)
+            .putInt("y", y)
+            .putInt("z", z)
+            .build();
+    }
+
+    static GeyserSession mockSession() {
+        GeyserImpl geyser = mock(GeyserImpl.class, RETURNS_DEEP_STUBS);
+        when(geyser.config().advanced().bedrock().useSubChunkRequests()).thenReturn(true);
+
+        BlockMappings blockMappings = mock(BlockMappings.class);
+        when(blockMappings.getBedrockAir()).thenReturn(new GeyserBedrockBlock(AIR, NbtMap.EMPTY));
+
+        GeyserSession session = mock(GeyserSession.class);
+        when(session.getGeyser()).thenReturn(geyser);
+        when(session.getBedrockDimension()).thenReturn(BedrockDimension.OVERWORLD);
+        when(session.getBlockMappings()).thenReturn(blockMappings);
+        return session;
+    }
+}
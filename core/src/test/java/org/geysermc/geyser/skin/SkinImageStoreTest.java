@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.skin;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SkinImageStoreTest {
+    private static final String URL = "http://textures.minecraft.net/texture/abc";
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testImagesSurviveReload() throws IOException {
+        byte[] skin = image(64, 64, 1);
+        byte[] cape = image(64, 32, 2);
+
+        SkinImageStore store = new SkinImageStore(folder);
+        store.put(URL, false, skin, 64, 64);
+        store.put(URL, true, cape, 64, 32);
+        store.close();
+
+        SkinImageStore reloaded = new SkinImageStore(folder);
+        SkinImageStore.Image image = reloaded.get(URL, false);
+        assertNotNull(image);
+        assertArrayEquals(skin, image.data());
+        assertEquals(64, image.height());
+        assertArrayEquals(cape, reloaded.get(URL, true).data());
+        assertNull(reloaded.get(URL + "/other", false));
+    }
+
+    @Test
+    public void testIdenticalImagesAreStoredOnce() throws IOException {
+        SkinImageStore store = new SkinImageStore(folder);
+        store.put(URL, false, image(64, 64, 3), 64, 64);
+        store.put(URL + "/copy", false, image(64, 64, 3), 64, 64);
+
+        assertEquals(2, store.size());
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(1, files.filter(file -> !file.getFileName().toString().equals(SkinImageStore.INDEX_FILE_NAME)).count());
+        }
+    }
+
+    @Test
+    public void testHashCollisionsAreNotCached() throws IOException {
+        SkinImageStore store = new SkinImageStore(folder);
+        store.put(URL, false, image(64, 64, 6), 64, 64);
+        // Pretend a different image with the same hash was stored first
+        Files.write(imageFile(), image(64, 64, 7));
+
+        store.put(URL + "/other", false, image(64, 64, 6), 64, 64);
+        assertNull(store.get(URL + "/other", false));
+        assertArrayEquals(image(64, 64, 7), Files.readAllBytes(imageFile()));
+    }
+
+    @Test
+    public void testExpiredImagesAreDropped() throws IOException {
+        SkinImageStore store = new SkinImageStore(folder);
+        store.put(URL, false, image(64, 64, 4), 64, 64);
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                if (!file.getFileName().toString().equals(SkinImageStore.INDEX_FILE_NAME)) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        assertNull(store.get(URL, false));
+        assertEquals(0, new SkinImageStore(folder).size());
+    }
+
+    @Test
+    public void testIndexKeepsEveryEntry() throws IOException {
+        SkinImageStore store = new SkinImageStore(folder);
+        for (int i = 0; i < 50; i++) {
+            store.put(URL + "/" + i, false, image(64, 64, i), 64, 64);
+        }
+        // The index is flushed after every entry, so it can be read before the store is closed
+        assertEquals(50, new SkinImageStore(folder).size());
+        store.close();
+        assertEquals(50, new SkinImageStore(folder).size());
+    }
+
+    @Test
+    public void testReadsOnlyTouchImagesOccasionally() throws IOException {
+        SkinImageStore store = new SkinImageStore(folder);
+        store.put(URL, false, image(64, 64, 5), 64, 64);
+        store.close();
+
+        Path file = imageFile();
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - 1000L * 60 * 60 * 24 * 2);
+        Files.setLastModifiedTime(file, old);
+
+        SkinImageStore reloaded = new SkinImageStore(folder);
+        assertNotNull(reloaded.get(URL, false));
+        // The first read marks the image as used
+        assertTrue(Files.getLastModifiedTime(file).compareTo(old) > 0);
+
+        Files.setLastModifiedTime(file, old);
+        assertNotNull(reloaded.get(URL, false));
+        // Later reads don't write to the disk again
+        assertEquals(old, Files.getLastModifiedTime(file));
+    }
+
+    private Path imageFile() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(file -> !file.getFileName().toString().equals(SkinImageStore.INDEX_FILE_NAME)).findFirst().orElseThrow();
+        }
+    }
+
+    private static byte[] image(int width, int height, int seed) {
+        byte[] data = new byte[width * height * 4];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31 + seed);
+        }
+        return data;
+    }
+}
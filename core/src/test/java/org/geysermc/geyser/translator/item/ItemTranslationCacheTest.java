@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.item;
+
+import net.kyori.adventure.key.Key;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ItemData;
+import org.geysermc.geyser.entity.attribute.GeyserAttributeType;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
+import org.geysermc.geyser.item.type.Item;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.geyser.registry.type.ItemMapping;
+import org.geysermc.geyser.registry.type.ItemMappings;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.util.MinecraftKey;
+import org.geysermc.mcprotocollib.protocol.data.game.entity.attribute.AttributeType;
+import org.geysermc.mcprotocollib.protocol.data.game.entity.attribute.ModifierOperation;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponentTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.DataComponents;
+import org.geysermc.mcprotocollib.protocol.data.game.item.component.ItemAttributeModifiers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ItemTranslationCacheTest {
+    private final ItemMappings itemMappings = mock(ItemMappings.class);
+    private final BlockMappings blockMappings = mock(BlockMappings.class);
+    private final Item sword = mock(Item.class);
+    private final ItemMapping swordMapping = mock(ItemMapping.class);
+    private int translations;
+
+    @BeforeEach
+    public void setUp() {
+        ItemTranslationCache.invalidate();
+    }
+
+    @Test
+    public void testWeaponsAreTranslatedPerAttackDamage() {
+        GeyserSession weak = mockSession(1);
+        GeyserSession strong = mockSession(3);
+        DataComponents components = modifiers(MinecraftKey.key("base_attack_damage"));
+
+        translate(weak, components);
+        // The lore of the other player shows their own attack damage
+        translate(strong, components);
+        assertEquals(2, translations);
+
+        translate(weak, components);
+        // Players with the same attack damage still share the translation
+        translate(mockSession(1), components);
+        assertEquals(2, translations);
+    }
+
+    @Test
+    public void testOtherModifiersAreShared() {
+        DataComponents components = modifiers(MinecraftKey.key("geyser_mc:test_modifier"));
+
+        translate(mockSession(1), components);
+        translate(mockSession(3), components);
+        assertEquals(1, translations);
+    }
+
+    private void translate(GeyserSession session, DataComponents components) {
+        ItemTranslationCache.translate(session, sword, swordMapping, 1, components, () -> {
+            translations++;
+            return mock(ItemData.Builder.class, RETURNS_DEEP_STUBS);
+        });
+    }
+
+    private GeyserSession mockSession(float attackDamage) {
+        SessionPlayerEntity playerEntity = mock(SessionPlayerEntity.class);
+        when(playerEntity.attributeOrDefault(GeyserAttributeType.ATTACK_DAMAGE)).thenReturn(attackDamage);
+
+        GeyserSession session = mock(GeyserSession.class, RETURNS_DEEP_STUBS);
+        when(session.getItemMappings()).thenReturn(itemMappings);
+        when(session.getBlockMappings()).thenReturn(blockMappings);
+        when(session.locale()).thenReturn("en_us");
+        when(session.getRegistryCache().fingerprint()).thenReturn(0L);
+        when(session.getPlayerEntity()).thenReturn(playerEntity);
+        when(session.getAttackSpeed()).thenReturn(4.0);
+        return session;
+    }
+
+    private static DataComponents modifiers(Key id) {
+        DataComponents components = new DataComponents(new HashMap<>());
+        components.put(DataComponentTypes.ATTRIBUTE_MODIFIERS, new ItemAttributeModifiers(List.of(
+            ItemAttributeModifiers.Entry.builder()
+                .attribute(AttributeType.Builtin.ATTACK_DAMAGE.getId())
+                .modifier(ItemAttributeModifiers.AttributeModifier.builder()
+                    .id(id)
+                    .amount(5.0)
+                    .operation(ModifierOperation.ADD)
+                    .build())
+                .slot(ItemAttributeModifiers.EquipmentSlotGroup.MAIN_HAND)
+                .display(new ItemAttributeModifiers.Display(ItemAttributeModifiers.DisplayType.DEFAULT, null))
+                .build()
+        )));
+        return components;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.protocol.bedrock;
+
+import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.protocol.bedrock.data.HeightMapDataType;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkData;
+import org.cloudburstmc.protocol.bedrock.data.SubChunkRequestResult;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkPacket;
+import org.cloudburstmc.protocol.bedrock.packet.SubChunkRequestPacket;
+import org.geysermc.geyser.level.BedrockDimension;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.SubChunkCache;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.geysermc.geyser.session.cache.SubChunkCacheTest.blockEntity;
+import static org.geysermc.geyser.session.cache.SubChunkCacheTest.mockSession;
+import static org.geysermc.geyser.session.cache.SubChunkCacheTest.sections;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BedrockSubChunkRequestTranslatorTest {
+
+    @Test
+    public void testRequestedSectionsAreAnswered() {
+        SubChunkPacket response = request(BedrockDimension.OVERWORLD_ID,
+            Vector3i.from(0, 0, 0), // Has a block
+            Vector3i.from(0, 1, 0), // Only air
+            Vector3i.from(1, 0, 0), // Chunk was never sent
+            Vector3i.from(0, -1, 0)); // Below the world
+
+        List<SubChunkData> subChunks = response.getSubChunks();
+        assertEquals(4, subChunks.size());
+
+        SubChunkData section = subChunks.get(0);
+        assertEquals(SubChunkRequestResult.SUCCESS, section.getResult());
+        assertTrue(section.getData().isReadable());
+        assertEquals(HeightMapDataType.HAS_DATA, section.getHeightMapType());
+        section.getData().release();
+
+        SubChunkData air = subChunks.get(1);
+        assertEquals(SubChunkRequestResult.SUCCESS_ALL_AIR, air.getResult());
+        assertFalse(air.getData().isReadable());
+        // Every block in this column is below the air section
+        assertEquals(HeightMapDataType.TOO_LOW, air.getHeightMapType());
+
+        assertEquals(SubChunkRequestResult.CHUNK_NOT_FOUND, subChunks.get(2).getResult());
+        assertEquals(SubChunkRequestResult.INDEX_OUT_OF_BOUNDS, subChunks.get(3).getResult());
+    }
+
+    @Test
+    public void testOtherDimensionsAreRejected() {
+        SubChunkPacket response = request(BedrockDimension.END_ID, Vector3i.from(0, 0, 0));
+        assertEquals(SubChunkRequestResult.INVALID_DIMENSION, response.getSubChunks().get(0).getResult());
+    }
+
+    @Test
+    public void testBlockEntitiesAreSentWithTheirSection() {
+        GeyserSession session = mockSession();
+        SubChunkCache cache = new SubChunkCache(session);
+        when(session.getSubChunkCache()).thenReturn(cache);
+        cache.addColumn(0, 0, sections(), new ArrayList<>());
+
+        SubChunkPacket withoutBlockEntity = request(session, BedrockDimension.OVERWORLD_ID, Vector3i.from(0, 0, 0));
+        int sizeWithout = withoutBlockEntity.getSubChunks().get(0).getData().readableBytes();
+        withoutBlockEntity.getSubChunks().get(0).getData().release();
+
+        cache.updateBlockEntity(0, -61, 0, blockEntity("Sign", 0, -61, 0));
+        SubChunkPacket withBlockEntity = request(session, BedrockDimension.OVERWORLD_ID, Vector3i.from(0, 0, 0));
+        SubChunkData section = withBlockEntity.getSubChunks().get(0);
+        assertTrue(section.getData().readableBytes() > sizeWithout);
+        section.getData().release();
+    }
+
+    private static SubChunkPacket request(int dimension, Vector3i... offsets) {
+        GeyserSession session = mockSession();
+        SubChunkCache cache = new SubChunkCache(session);
+        when(session.getSubChunkCache()).thenReturn(cache);
+        cache.addColumn(0, 0, sections(), new ArrayList<>());
+        return request(session, dimension, offsets);
+    }
+
+    private static SubChunkPacket request(GeyserSession session, int dimension, Vector3i... offsets) {
+        SubChunkRequestPacket packet = new SubChunkRequestPacket();
+        packet.setDimension(dimension);
+        // Section -4 is the bottom of the overworld
+        packet.setSubChunkPosition(Vector3i.from(0, -4, 0));
+        packet.getPositionOffsets().addAll(List.of(offsets));
+
+        new BedrockSubChunkRequestTranslator().translate(session, packet);
+
+        ArgumentCaptor<SubChunkPacket> captor = ArgumentCaptor.forClass(SubChunkPacket.class);
+        verify(session, atLeastOnce()).sendUpstreamPacket(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ImageUtilsTest {
+
+    @Test
+    public void testRgbaRoundTrip() {
+        byte[] rgba = new byte[4 * 3 * 4];
+        for (int i = 0; i < rgba.length; i++) {
+            rgba[i] = (byte) (i * 37);
+        }
+
+        BufferedImage image = ImageUtils.fromRgba(rgba, 4, 3);
+        // Matches what getRGB would give for every pixel
+        assertEquals(0x6F00254A, image.getRGB(0, 0));
+        assertArrayEquals(rgba, ImageUtils.toRgba(image));
+    }
+
+    @Test
+    public void testArgbIsNotCopied() {
+        int[] argb = {0xFF000000, 0xFFFFFFFF, 0x80FF0000, 0x00000000};
+        BufferedImage image = ImageUtils.fromArgb(argb, 2, 2);
+        assertSame(argb, ImageUtils.toArgb(image));
+        assertEquals(0x80FF0000, image.getRGB(0, 1));
+    }
+
+    @Test
+    public void testConvertedImage() {
+        BufferedImage image = new BufferedImage(2, 1, BufferedImage.TYPE_4BYTE_ABGR);
+        image.setRGB(0, 0, 0xFF102030);
+        image.setRGB(1, 0, 0x00000000);
+        assertArrayEquals(new int[] {0xFF102030, 0x00000000}, ImageUtils.toArgb(image));
+    }
+
+    @Test
+    public void testPadAndCopyRegion() {
+        int[] source = {1, 2, 3, 4};
+        // Reused destinations must not keep stale pixels
+        int[] destination = {9, 9, 9, 9, 9, 9, 9, 9, 9};
+        assertSame(destination, ImageUtils.pad(source, 2, 2, 3, 3, destination));
+        assertArrayEquals(new int[] {1, 2, 0, 3, 4, 0, 0, 0, 0}, destination);
+
+        int[] region = new int[4];
+        ImageUtils.copyRegion(destination, 3, 1, 0, region, 2, 0, 0, 2, 2);
+        assertArrayEquals(new int[] {2, 0, 4, 0}, region);
+    }
+
+    @Test
+    public void testScale() {
+        int[] source = {0xFF000000, 0xFFFFFFFF, 0xFF000000, 0xFFFFFFFF};
+        assertArrayEquals(new int[] {0xFF000000, 0xFF000000, 0xFFFFFFFF, 0xFFFFFFFF},
+                ImageUtils.scaleNearest(source, 2, 2, 4, 1, null));
+
+        // Halving averages each 2x2 block
+        int[] checkerboard = {0xFF000000, 0xFFFFFFFF, 0xFFFFFFFF, 0xFF000000};
+        assertArrayEquals(new int[] {0xFF808080}, ImageUtils.scaleBilinear(checkerboard, 2, 2, 1, 1, null));
+    }
+}
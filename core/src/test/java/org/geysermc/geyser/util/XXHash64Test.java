@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class XXHash64Test {
+
+    @Test
+    public void testKnownValues() {
+        assertEquals(0xEF46DB3751D8E999L, hash(""));
+        assertEquals(0xD24EC4F1A98C6E5BL, hash("a"));
+        assertEquals(0x44BC2CF5AD770999L, hash("abc"));
+        // Long enough to use the 32-byte stripes
+        assertEquals(0xFBCEA83C8A378BF1L, hash("Nobody inspects the spammish repetition"));
+    }
+
+    @Test
+    public void testReaderIndexIsRespected() {
+        ByteBuf buffer = Unpooled.copiedBuffer("xxabc", StandardCharsets.UTF_8);
+        buffer.skipBytes(2);
+        assertEquals(0x44BC2CF5AD770999L, XXHash64.hash(buffer));
+        assertEquals(2, buffer.readerIndex());
+    }
+
+    @Test
+    public void testLongArrayMatchesBytes() {
+        for (int length : new int[] {0, 1, 3, 4, 5, 9, 64}) {
+            long[] data = new long[length];
+            ByteBuf buffer = Unpooled.buffer(length * 8);
+            for (int i = 0; i < length; i++) {
+                data[i] = i * 0x9E3779B97F4A7C15L;
+                buffer.writeLongLE(data[i]);
+            }
+            assertEquals(XXHash64.hash(buffer, 0, buffer.readableBytes(), 42L), XXHash64.hash(data, 42L));
+        }
+    }
+
+    private static long hash(String value) {
+        return XXHash64.hash(Unpooled.copiedBuffer(value, StandardCharsets.UTF_8));
+    }
+}